@@ -11,6 +11,9 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:${project.properties["springDocOpenApiVersion"]}")
 
+    // cache
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
 
     // querydsl
     annotationProcessor("com.querydsl:querydsl-apt::jakarta")
@@ -21,33 +21,25 @@ public class LikeFacade {
 
     @Transactional
     public LikeInfo.Like addLike(LikeCommand.Add command) {
-        validateLikeCommand(command.userId(), command.productId());
+        Product product = validateLikeCommand(command.userId(), command.productId());
 
-        boolean alreadyLiked = likeService.isLiked(command.userId(), command.productId());
+        boolean changed = likeService.like(command.userId(), command.productId());
 
-        if (!alreadyLiked) {
-            likeService.like(command.userId(), command.productId());
-        }
-
-        return buildLikeInfo(command.productId(), true);
+        return buildLikeInfo(product, true, changed);
     }
 
     @Transactional
     public LikeInfo.Like removeLike(LikeCommand.Remove command) {
-        validateLikeCommand(command.userId(), command.productId());
+        Product product = validateLikeCommand(command.userId(), command.productId());
 
-        boolean currentlyLiked = likeService.isLiked(command.userId(), command.productId());
+        boolean changed = likeService.unlike(command.userId(), command.productId());
 
-        if (currentlyLiked) {
-            likeService.unlike(command.userId(), command.productId());
-        }
-
-        return buildLikeInfo(command.productId(), false);
+        return buildLikeInfo(product, false, changed);
     }
 
-    private void validateLikeCommand(String userId, Long productId) {
+    private Product validateLikeCommand(String userId, Long productId) {
         validateUserExists(userId);
-        validateProductExists(productId);
+        return validateProductExists(productId);
     }
 
     private void validateUserExists(String userId) {
@@ -65,8 +57,18 @@ public class LikeFacade {
         return product;
     }
 
-    private LikeInfo.Like buildLikeInfo(Long productId, boolean isLiked) {
-        long likeCount = likeService.countByProduct(productId);
-        return new LikeInfo.Like(productId, isLiked, likeCount);
+    /**
+     * product 는 이번 좋아요/취소 전에 읽은 상품이다.
+     * WRITE_BEHIND 이면 likes 를 집계하지 않고, 아직 like_count 에 반영되지 않은 이번 변경만 더해 응답한다.
+     */
+    private LikeInfo.Like buildLikeInfo(Product product, boolean isLiked, boolean changed) {
+        long likeCount;
+        if (likeService.isWriteBehind()) {
+            long delta = !changed ? 0L : isLiked ? 1L : -1L;
+            likeCount = Math.max(product.getLikeCount() + delta, 0L);
+        } else {
+            likeCount = likeService.countByProduct(product.getId());
+        }
+        return new LikeInfo.Like(product.getId(), isLiked, likeCount);
     }
 }
@@ -4,10 +4,15 @@ import com.loopers.domain.coupon.Coupon;
 import com.loopers.domain.coupon.CouponService;
 import com.loopers.domain.order.Order;
 import com.loopers.domain.order.OrderService;
+import com.loopers.domain.order.OrderSummary;
+import com.loopers.domain.order.StockHoldService;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.Quantity;
 import com.loopers.domain.user.UserService;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,6 +27,7 @@ public class OrderFacade {
     private final ProductService productService;
     private final UserService userService;
     private final CouponService couponService;
+    private final StockHoldService stockHoldService;
 
     @Transactional
     public OrderInfo.Detail createOrder(OrderCommand.Create command) {
@@ -29,18 +35,20 @@ public class OrderFacade {
 
         Order order = Order.create(command.userId());
 
-        for (OrderItemCommand.Create itemRequest : command.items()) {
-            Product product = productService.get(itemRequest.productId());
+        Map<Long, Quantity> quantities = mergeQuantities(command.items());
 
-            product.decreaseStock(itemRequest.quantity());
+        for (Map.Entry<Long, Quantity> item : quantities.entrySet()) {
+            Product product = productService.get(item.getKey());
 
             order.addOrderItem(
                 product.getId(),
                 product.getPrice(),
-                itemRequest.quantity()
+                item.getValue()
             );
         }
 
+        productService.decreaseStocks(quantities);
+
         if (command.couponId() != null) {
             Coupon coupon = couponService.get(command.couponId(), command.userId());
             order.applyCoupon(coupon);
@@ -49,6 +57,8 @@ public class OrderFacade {
         order.startPayment();
         Order savedOrder = orderService.place(order);
 
+        stockHoldService.hold(savedOrder.getId(), quantities);
+
         log.info("주문 생성 완료. orderId: {}, userId: {}, finalPrice: {}",
             savedOrder.getId(), command.userId(), savedOrder.getFinalPrice());
 
@@ -67,7 +77,7 @@ public class OrderFacade {
     public OrderInfo.OrderList getMyOrders(OrderCommand.GetMyOrders command) {
         validateUserExists(command.userId());
 
-        List<Order> orders = orderService.getAllByUser(command.userId());
+        List<OrderSummary> orders = orderService.getAllByUser(command.userId());
 
         List<OrderInfo.Summary> orderSummaries = orders.stream()
             .map(OrderInfo.Summary::from)
@@ -76,6 +86,17 @@ public class OrderFacade {
         return OrderInfo.OrderList.of(orderSummaries);
     }
 
+    /**
+     * 같은 상품이 여러 줄로 들어오면 수량을 합쳐 한 줄로 만든다. 결과는 상품 ID 오름차순이다.
+     */
+    private Map<Long, Quantity> mergeQuantities(List<OrderItemCommand.Create> items) {
+        Map<Long, Quantity> quantities = new TreeMap<>();
+        for (OrderItemCommand.Create item : items) {
+            quantities.merge(item.productId(), item.quantity(), Quantity::add);
+        }
+        return quantities;
+    }
+
     private void validateUserExists(String userId) {
         userService.get(userId);
     }
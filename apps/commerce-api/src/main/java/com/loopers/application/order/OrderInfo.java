@@ -2,6 +2,7 @@ package com.loopers.application.order;
 
 import com.loopers.domain.order.Order;
 import com.loopers.domain.order.OrderStatus;
+import com.loopers.domain.order.OrderSummary;
 import com.loopers.domain.product.Money;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -39,13 +40,13 @@ public class OrderInfo {
         int itemCount,
         LocalDateTime orderedAt
     ) {
-        public static Summary from(Order order) {
+        public static Summary from(OrderSummary order) {
             return new Summary(
-                order.getId(),
-                order.getTotalPrice(),
-                order.getStatus(),
-                order.getItems().size(),
-                order.getOrderedAt()
+                order.id(),
+                order.totalPrice(),
+                order.status(),
+                order.itemCount(),
+                order.orderedAt()
             );
         }
     }
@@ -0,0 +1,55 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.order.OrderService;
+import com.loopers.domain.order.StockHold;
+import com.loopers.domain.order.StockHoldService;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.Quantity;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StockHoldFacade {
+
+    private final StockHoldService stockHoldService;
+    private final ProductService productService;
+    private final OrderService orderService;
+
+    /**
+     * 만료된 보유 재고를 최대 batchSize 건 반환한다.
+     * 상품별 수량을 합쳐 상품당 한 번만 재고를 되돌리고, 아직 결제 대기 중인 주문은 한 번에 취소한다.
+     * 반환한 보유 재고 건수를 반환한다.
+     */
+    @Transactional
+    public int releaseExpiredHolds(int batchSize) {
+        List<StockHold> holds = stockHoldService.releaseExpired(batchSize);
+        if (holds.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Quantity> quantities = new TreeMap<>();
+        for (StockHold hold : holds) {
+            quantities.merge(hold.getProductId(), hold.getQuantity(), Quantity::add);
+        }
+        productService.increaseStocks(quantities);
+
+        Set<Long> orderIds = holds.stream()
+            .map(StockHold::getOrderId)
+            .collect(Collectors.toSet());
+        int cancelled = orderService.cancelUnpaid(orderIds);
+
+        log.info("만료된 보유 재고 반환. holds: {}, products: {}, cancelledOrders: {}",
+            holds.size(), quantities.size(), cancelled);
+
+        return holds.size();
+    }
+}
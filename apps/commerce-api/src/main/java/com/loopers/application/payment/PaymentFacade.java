@@ -2,9 +2,12 @@ package com.loopers.application.payment;
 
 import com.loopers.domain.order.Order;
 import com.loopers.domain.order.OrderService;
+import com.loopers.domain.order.StockHoldService;
 import com.loopers.domain.payment.Payment;
 import com.loopers.domain.payment.PaymentService;
 import com.loopers.domain.point.PointService;
+import com.loopers.domain.product.ProductSalesService;
+import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -18,6 +21,8 @@ public class PaymentFacade {
     private final PaymentService paymentService;
     private final OrderService orderService;
     private final PointService pointService;
+    private final StockHoldService stockHoldService;
+    private final ProductSalesService productSalesService;
 
     @Transactional
     public PaymentInfo.ProcessingResult processCardPayment(PaymentCommand.CreateCard command) {
@@ -66,12 +71,14 @@ public class PaymentFacade {
             String transactionKey = "POINT_" + System.currentTimeMillis();
             paymentService.startProcessing(payment.getId(), transactionKey);
 
+            stockHoldService.confirm(command.orderId());
+
             pointService.use(command.userId(), command.amount().getValue().longValue());
 
             paymentService.completeSuccess(transactionKey);
 
-            order.completePayment();
-            orderService.place(order);
+            orderService.completePayment(order);
+            productSalesService.recordSales(order.getQuantitiesByProduct(), LocalDate.now());
 
             log.info("포인트 결제 완료. orderId: {}", command.orderId());
 
@@ -89,9 +96,11 @@ public class PaymentFacade {
             if (command.isSuccess()) {
                 Payment payment = paymentService.completeSuccess(command.transactionKey());
 
+                stockHoldService.confirm(payment.getOrderId());
+
                 Order order = orderService.get(payment.getOrderId(), payment.getUserId());
-                order.completePayment();
-                orderService.place(order);
+                orderService.completePayment(order);
+                productSalesService.recordSales(order.getQuantitiesByProduct(), LocalDate.now());
 
                 log.info("결제 성공 콜백 처리 완료. transactionKey: {}, orderId: {}",
                     command.transactionKey(), payment.getOrderId());
@@ -103,6 +112,8 @@ public class PaymentFacade {
                 order.failPayment();
                 orderService.place(order);
 
+                stockHoldService.expire(payment.getOrderId());
+
                 log.warn("결제 실패 콜백 처리 완료. transactionKey: {}, orderId: {}, reason: {}",
                     command.transactionKey(), payment.getOrderId(), command.reason());
             }
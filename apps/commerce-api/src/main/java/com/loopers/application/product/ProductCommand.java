@@ -1,5 +1,9 @@
 package com.loopers.application.product;
 
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import java.time.LocalDate;
+
 public class ProductCommand {
 
     public static record GetDetail(
@@ -13,12 +17,82 @@ public class ProductCommand {
 
     public static record GetList(
         ProductSortOption sort, // 정렬 옵션
+        Long brandId, // 있으면 해당 브랜드 상품만 조회
         Integer page,
-        Integer size
+        Integer size,
+        String userId // X-USER-ID. 있으면 상품마다 likedByMe 를 채운다
     ) {
         public static GetList of(String sortCode, Integer page, Integer size) {
+            return of(sortCode, null, page, size, null);
+        }
+
+        public static GetList of(String sortCode, Integer page, Integer size, String userId) {
+            return of(sortCode, null, page, size, userId);
+        }
+
+        public static GetList of(String sortCode, Long brandId, Integer page, Integer size, String userId) {
             return new GetList(
                 ProductSortOption.fromCode(sortCode),
+                brandId,
+                page != null ? page : 0,
+                size != null ? size : 20,
+                userId != null && !userId.isBlank() ? userId : null
+            );
+        }
+    }
+
+    public static record GetListByCursor(
+        ProductSortOption sort,
+        ProductCursor cursor, // 첫 페이지 조회 시 null
+        Integer size
+    ) {
+        /**
+         * size 가 1 보다 작으면 다음 페이지 여부를 판단할 행이 없으므로 막는다.
+         */
+        public static GetListByCursor of(String sortCode, String cursor, Integer size) {
+            ProductSortOption sort = ProductSortOption.fromCode(sortCode);
+            if (sort == ProductSortOption.SALES_DESC) {
+                throw ProductCursor.unsupportedSort();
+            }
+
+            int resolvedSize = size != null ? size : 20;
+            if (resolvedSize < 1) {
+                throw new CoreException(
+                    ErrorType.BAD_REQUEST,
+                    "페이지 크기는 1 이상이어야 합니다."
+                );
+            }
+
+            return new GetListByCursor(
+                sort,
+                cursor != null && !cursor.isBlank() ? ProductCursor.decode(cursor, sort) : null,
+                resolvedSize
+            );
+        }
+    }
+
+    public static record GetBestSellers(
+        LocalDate from,
+        LocalDate to, // 포함
+        Integer page,
+        Integer size
+    ) {
+        /**
+         * 기간을 지정하지 않으면 오늘까지 최근 7일을 조회한다.
+         */
+        public static GetBestSellers of(LocalDate from, LocalDate to, Integer page, Integer size) {
+            LocalDate end = to != null ? to : LocalDate.now();
+            LocalDate start = from != null ? from : end.minusDays(6);
+            if (start.isAfter(end)) {
+                throw new CoreException(
+                    ErrorType.BAD_REQUEST,
+                    "조회 시작일은 종료일보다 늦을 수 없습니다."
+                );
+            }
+
+            return new GetBestSellers(
+                start,
+                end,
                 page != null ? page : 0,
                 size != null ? size : 20
             );
@@ -0,0 +1,95 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.ProductSummary;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 커서 기반 상품 목록 조회에서 마지막으로 조회한 상품의 위치를 나타낸다.
+ * 정렬 기준 값(sortKey)과 상품 ID 를 함께 담아 동일한 정렬 값 사이의 순서를 보장한다.
+ */
+public record ProductCursor(
+    ProductSortOption sort,
+    String sortKey,
+    Long lastId
+) {
+    private static final String DELIMITER = "|";
+
+    public static ProductCursor from(ProductSortOption sort, ProductSummary product) {
+        String sortKey = switch (sort) {
+            case LATEST -> product.createdAt().toString();
+            case PRICE_ASC -> product.price().getValue().toPlainString();
+            case LIKES_DESC -> String.valueOf(product.likeCount());
+            case SALES_DESC -> throw unsupportedSort();
+        };
+
+        return new ProductCursor(sort, sortKey, product.id());
+    }
+
+    public static ProductCursor decode(String encoded, ProductSortOption sort) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] tokens = decoded.split("\\" + DELIMITER, -1);
+
+            if (tokens.length != 3 || !sort.getCode().equals(tokens[0])) {
+                throw invalidCursor();
+            }
+
+            ProductCursor cursor = new ProductCursor(sort, tokens[1], Long.parseLong(tokens[2]));
+            cursor.validateSortKey();
+            return cursor;
+        } catch (IllegalArgumentException e) {
+            throw invalidCursor();
+        }
+    }
+
+    public String encode() {
+        String raw = sort.getCode() + DELIMITER + sortKey + DELIMITER + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime createdAt() {
+        return LocalDateTime.parse(sortKey);
+    }
+
+    public BigDecimal price() {
+        return new BigDecimal(sortKey);
+    }
+
+    public long likeCount() {
+        return Long.parseLong(sortKey);
+    }
+
+    private void validateSortKey() {
+        try {
+            switch (sort) {
+                case LATEST -> createdAt();
+                case PRICE_ASC -> price();
+                case LIKES_DESC -> likeCount();
+            }
+        } catch (RuntimeException e) {
+            throw invalidCursor();
+        }
+    }
+
+    /**
+     * 판매량은 상품이 아닌 product_sales_stats 에 있어 상품만으로 커서를 만들 수 없으므로 페이지 조회만 지원한다.
+     */
+    public static CoreException unsupportedSort() {
+        return new CoreException(
+            ErrorType.BAD_REQUEST,
+            "판매량순은 커서 기반 조회를 지원하지 않습니다."
+        );
+    }
+
+    private static CoreException invalidCursor() {
+        return new CoreException(
+            ErrorType.BAD_REQUEST,
+            "유효하지 않은 커서입니다."
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.loopers.application.product;
+
+import java.util.function.Supplier;
+
+public interface ProductDetailCache {
+
+    /**
+     * 캐시된 상세를 반환하고, 없으면 loader 로 적재한다.
+     * 같은 상품에 대한 동시 미스는 하나의 loader 호출을 공유한다.
+     */
+    ProductInfo.Detail get(Long productId, Supplier<ProductInfo.Detail> loader);
+
+    void evict(Long productId);
+}
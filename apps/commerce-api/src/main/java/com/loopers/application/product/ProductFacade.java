@@ -2,39 +2,77 @@ package com.loopers.application.product;
 
 import com.loopers.domain.brand.Brand;
 import com.loopers.domain.brand.BrandService;
-import com.loopers.domain.like.Like;
 import com.loopers.domain.like.LikeService;
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductSalesService;
 import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.ProductSummary;
+import com.loopers.domain.product.ProductViewService;
 import com.loopers.domain.user.UserService;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
-@RequiredArgsConstructor
 public class ProductFacade {
 
     private final ProductService productService;
     private final BrandService brandService;
     private final LikeService likeService;
     private final UserService userService;
+    private final ProductDetailCache productDetailCache;
+    private final ProductViewService productViewService;
+    private final ProductSalesService productSalesService;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    public ProductFacade(
+        ProductService productService,
+        BrandService brandService,
+        LikeService likeService,
+        UserService userService,
+        ProductDetailCache productDetailCache,
+        ProductViewService productViewService,
+        ProductSalesService productSalesService,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.productService = productService;
+        this.brandService = brandService;
+        this.likeService = likeService;
+        this.userService = userService;
+        this.productDetailCache = productDetailCache;
+        this.productViewService = productViewService;
+        this.productSalesService = productSalesService;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
 
-    @Transactional(readOnly = true)
+    /**
+     * 트랜잭션은 캐시 미스 적재에만 연다. 메서드 전체를 트랜잭션으로 감싸면 캐시 적중,
+     * 단일 비행 대기, 다른 인스턴스의 적재 대기 동안에도 커넥션을 잡고 있어 스탬피드 방지가 무력해진다.
+     */
     public ProductInfo.Detail getProductDetail(ProductCommand.GetDetail command) {
-        Product product = productService.get(command.productId());
-
-        Brand brand = brandService.get(product.getBrandId());
-
-        long likeCount = likeService.countByProduct(command.productId());
+        ProductInfo.Detail detail = productDetailCache.get(
+            command.productId(),
+            () -> readOnlyTransactionTemplate.execute(status -> loadProductDetail(command.productId()))
+        );
+        productViewService.record(command.productId());
 
-        return ProductInfo.Detail.from(product, brand, likeCount);
+        return detail.withBrand(brandService.get(detail.brandId()));
     }
 
     @Transactional(readOnly = true)
     public ProductInfo.PagedList getProducts(ProductCommand.GetList command) {
-        List<Product> products = productService.getAllWithSortingAndPaging(
+        if (command.brandId() != null) {
+            return getProductsByBrand(command);
+        }
+
+        List<ProductSummary> products = productService.getAllWithSortingAndPaging(
             command.sort(),
             command.page(),
             command.size()
@@ -42,18 +80,81 @@ public class ProductFacade {
 
         long totalCount = productService.count();
 
-        List<ProductInfo.Detail> productDetails = products.stream()
-            .map(this::buildProductDetail)
-            .toList();
+        List<ProductInfo.Detail> productDetails = buildProductDetails(products);
+        if (command.userId() != null) {
+            productDetails = overlayLikedByMe(productDetails, command.userId());
+        }
+
+        return ProductInfo.PagedList.of(productDetails, command.page(), command.size(), totalCount);
+    }
+
+    private ProductInfo.PagedList getProductsByBrand(ProductCommand.GetList command) {
+        brandService.get(command.brandId());
+
+        List<ProductSummary> products = productService.getAllByBrandWithSortingAndPaging(
+            command.brandId(),
+            command.sort(),
+            command.page(),
+            command.size()
+        );
+
+        long totalCount = productService.countByBrand(command.brandId());
+
+        List<ProductInfo.Detail> productDetails = buildProductDetails(products);
+        if (command.userId() != null) {
+            productDetails = overlayLikedByMe(productDetails, command.userId());
+        }
 
         return ProductInfo.PagedList.of(productDetails, command.page(), command.size(), totalCount);
     }
 
+    @Transactional(readOnly = true)
+    public ProductInfo.CursorList getProductsByCursor(ProductCommand.GetListByCursor command) {
+        List<ProductSummary> products = productService.getAllByCursor(
+            command.sort(),
+            command.cursor(),
+            command.size() + 1
+        );
+
+        boolean hasNext = products.size() > command.size();
+        List<ProductSummary> pageProducts = hasNext ? products.subList(0, command.size()) : products;
+
+        String nextCursor = hasNext
+            ? ProductCursor.from(command.sort(), pageProducts.get(pageProducts.size() - 1)).encode()
+            : null;
+
+        return ProductInfo.CursorList.of(buildProductDetails(pageProducts), nextCursor, command.size());
+    }
+
+    /**
+     * 기간 판매량순 목록. 순서는 일별 판매 롤업에서 정하고, 상품 상세는 페이지 단위로 한 번에 채운다.
+     */
+    @Transactional(readOnly = true)
+    public ProductInfo.PagedList getBestSellers(ProductCommand.GetBestSellers command) {
+        List<Long> productIds = productSalesService.getBestSellerIds(
+            command.from(),
+            command.to(),
+            command.page(),
+            command.size()
+        );
+
+        long totalCount = productSalesService.countBestSellers(command.from(), command.to());
+
+        Map<Long, ProductSummary> products = productService.getAllByIds(productIds).stream()
+            .collect(Collectors.toMap(ProductSummary::id, Function.identity()));
+        List<ProductSummary> orderedProducts = productIds.stream()
+            .filter(products::containsKey)
+            .map(products::get)
+            .toList();
+
+        return ProductInfo.PagedList.of(buildProductDetails(orderedProducts), command.page(), command.size(), totalCount);
+    }
+
     @Transactional(readOnly = true)
     public ProductInfo.PagedList getLikedProducts(ProductCommand.GetLikedProducts command) {
         validateUserExists(command.userId());
 
-        List<Like> likes = likeService.getAllByUserWithPaging(
+        List<ProductSummary> likedProducts = likeService.getLikedProductsByUserWithPaging(
             command.userId(),
             command.page(),
             command.size()
@@ -61,32 +162,55 @@ public class ProductFacade {
 
         long totalCount = likeService.countByUser(command.userId());
 
-        List<ProductInfo.Detail> productDetails = likes.stream()
-            .map(this::buildLikedProductDetail)
-            .toList();
-
-        return ProductInfo.PagedList.of(productDetails, command.page(), command.size(), totalCount);
+        return ProductInfo.PagedList.of(buildProductDetails(likedProducts), command.page(), command.size(), totalCount);
     }
 
     private void validateUserExists(String userId) {
         userService.get(userId);
     }
 
-    private ProductInfo.Detail buildProductDetail(Product product) {
+    private ProductInfo.Detail loadProductDetail(Long productId) {
+        Product product = productService.get(productId);
+
         Brand brand = brandService.get(product.getBrandId());
 
-        long likeCount = likeService.countByProduct(product.getId());
+        long likeCount = likeService.countByProduct(productId);
 
-        return ProductInfo.Detail.from(product, brand, likeCount);
+        return ProductInfo.Detail.from(product, productService.getStockQuantity(product), brand, likeCount);
     }
 
-    private ProductInfo.Detail buildLikedProductDetail(Like like) {
-        Product product = productService.get(like.getProductId());
+    /**
+     * 좋아요 수는 likes 테이블을 집계하지 않고, 좋아요순 정렬 기준과 같은 상품의 like_count 를 사용한다.
+     */
+    private List<ProductInfo.Detail> buildProductDetails(List<ProductSummary> products) {
+        List<Long> brandIds = products.stream()
+            .map(ProductSummary::brandId)
+            .distinct()
+            .toList();
 
-        Brand brand = brandService.get(product.getBrandId());
+        Map<Long, Brand> brands = brandService.getAllByIds(brandIds);
 
-        long likeCount = likeService.countByProduct(product.getId());
+        return products.stream()
+            .map(product -> ProductInfo.Detail.from(
+                product,
+                brands.get(product.brandId()),
+                product.likeCount()
+            ))
+            .toList();
+    }
+
+    /**
+     * 목록 본문은 사용자와 무관하게 만들고, 요청한 사용자의 좋아요 여부만 페이지 단위 한 번의 조회로 덧씌운다.
+     */
+    private List<ProductInfo.Detail> overlayLikedByMe(List<ProductInfo.Detail> details, String userId) {
+        List<Long> productIds = details.stream()
+            .map(ProductInfo.Detail::productId)
+            .toList();
+
+        Set<Long> likedProductIds = likeService.findLikedProductIds(userId, productIds);
 
-        return ProductInfo.Detail.from(product, brand, likeCount);
+        return details.stream()
+            .map(detail -> detail.withLikedByMe(likedProductIds.contains(detail.productId())))
+            .toList();
     }
 }
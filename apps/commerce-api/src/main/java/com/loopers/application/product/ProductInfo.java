@@ -3,6 +3,7 @@ package com.loopers.application.product;
 import com.loopers.domain.brand.Brand;
 import com.loopers.domain.product.Money;
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductSummary;
 import com.loopers.domain.product.Quantity;
 import java.util.List;
 
@@ -16,18 +17,72 @@ public class ProductInfo {
         Long brandId,
         String brandName,
         String brandDescription,
-        Long likeCount
+        Long likeCount,
+        Boolean likedByMe // 사용자별 값이므로 캐시되는 상세에서는 항상 null
     ) {
         public static Detail from(Product product, Brand brand, Long likeCount) {
+            return from(product, product.getStockQuantity(), brand, likeCount);
+        }
+
+        public static Detail from(Product product, Quantity stockQuantity, Brand brand, Long likeCount) {
             return new Detail(
                 product.getId(),
                 product.getName(),
                 product.getPrice(),
-                product.getStockQuantity(),
+                stockQuantity,
+                brand.getId(),
+                brand.getName(),
+                brand.getDescription(),
+                likeCount,
+                null
+            );
+        }
+
+        public static Detail from(ProductSummary product, Brand brand, Long likeCount) {
+            return new Detail(
+                product.id(),
+                product.name(),
+                product.price(),
+                product.stockQuantity(),
+                brand.getId(),
+                brand.getName(),
+                brand.getDescription(),
+                likeCount,
+                null
+            );
+        }
+
+        /**
+         * 캐시된 상세에 브랜드 사전의 최신 브랜드 정보를 덮어쓴다.
+         */
+        public Detail withBrand(Brand brand) {
+            return new Detail(
+                productId,
+                productName,
+                price,
+                stockQuantity,
                 brand.getId(),
                 brand.getName(),
                 brand.getDescription(),
-                likeCount
+                likeCount,
+                likedByMe
+            );
+        }
+
+        /**
+         * 사용자와 무관한 상세에 요청한 사용자의 좋아요 여부를 덧씌운다.
+         */
+        public Detail withLikedByMe(boolean likedByMe) {
+            return new Detail(
+                productId,
+                productName,
+                price,
+                stockQuantity,
+                brandId,
+                brandName,
+                brandDescription,
+                likeCount,
+                likedByMe
             );
         }
     }
@@ -74,4 +129,20 @@ public class ProductInfo {
             );
         }
     }
+
+    public static record CursorList(
+        List<Detail> products,
+        String nextCursor,
+        Integer size,
+        Boolean hasNext
+    ) {
+        public static CursorList of(List<Detail> products, String nextCursor, int size) {
+            return new CursorList(
+                products,
+                nextCursor,
+                size,
+                nextCursor != null
+            );
+        }
+    }
 }
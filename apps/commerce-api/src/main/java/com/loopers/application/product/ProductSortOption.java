@@ -3,7 +3,8 @@ package com.loopers.application.product;
 public enum ProductSortOption {
     LATEST("latest", "최신순"),
     PRICE_ASC("price_asc", "가격 낮은순"),
-    LIKES_DESC("likes_desc", "좋아요 많은순");
+    LIKES_DESC("likes_desc", "좋아요 많은순"),
+    SALES_DESC("sales_desc", "판매량 많은순");
 
     private final String code;
     private final String description;
@@ -0,0 +1,62 @@
+package com.loopers.application.ranking;
+
+import com.loopers.domain.ranking.RankingWindow;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+public class RankingCommand {
+
+    // yyyyMMddHH 는 분이 없어 LocalDateTime 으로 바로 파싱되지 않으므로 분을 붙여 파싱한다.
+    private static final DateTimeFormatter AT_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+
+    public static record GetList(
+        RankingWindow window,
+        LocalDateTime at, // 조회할 구간에 속한 시각
+        Integer page,
+        Integer size
+    ) {
+        /**
+         * at 은 yyyyMMddHH 형식이며, 없으면 현재 구간을 조회한다.
+         * size 가 0 이면 ZREVRANGE 0 -1 로 랭킹 전체를, 음수 page 는 끝에서부터 읽게 되므로 막는다.
+         */
+        public static GetList of(String windowCode, String at, Integer page, Integer size) {
+            int resolvedPage = page != null ? page : 0;
+            int resolvedSize = size != null ? size : 20;
+
+            if (resolvedPage < 0) {
+                throw new CoreException(
+                    ErrorType.BAD_REQUEST,
+                    "페이지는 0 이상이어야 합니다."
+                );
+            }
+
+            if (resolvedSize < 1) {
+                throw new CoreException(
+                    ErrorType.BAD_REQUEST,
+                    "페이지 크기는 1 이상이어야 합니다."
+                );
+            }
+
+            return new GetList(
+                RankingWindow.fromCode(windowCode),
+                at != null && !at.isBlank() ? parseAt(at) : LocalDateTime.now(),
+                resolvedPage,
+                resolvedSize
+            );
+        }
+
+        private static LocalDateTime parseAt(String at) {
+            try {
+                return LocalDateTime.parse(at + "00", AT_FORMAT);
+            } catch (DateTimeParseException e) {
+                throw new CoreException(
+                    ErrorType.BAD_REQUEST,
+                    "랭킹 조회 시각은 yyyyMMddHH 형식이어야 합니다."
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.loopers.application.ranking;
+
+import com.loopers.application.product.ProductInfo;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandService;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.ProductSummary;
+import com.loopers.domain.ranking.RankedProduct;
+import com.loopers.domain.ranking.RankingService;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class RankingFacade {
+
+    private final RankingService rankingService;
+    private final ProductService productService;
+    private final BrandService brandService;
+
+    /**
+     * 순위는 Redis 랭킹에서만 읽고, 상품과 브랜드는 페이지 단위로 한 번씩 조회해 채운다.
+     * 좋아요 수는 likes 테이블을 집계하지 않고 상품의 like_count 를 사용한다.
+     * 랭킹에 남아 있지만 삭제된 상품은 결과에서 제외한다.
+     */
+    @Transactional(readOnly = true)
+    public RankingInfo.PagedList getRankings(RankingCommand.GetList command) {
+        List<RankedProduct> ranked = rankingService.getRanking(
+            command.window(),
+            command.at(),
+            command.page(),
+            command.size()
+        );
+        long totalCount = rankingService.count(command.window(), command.at());
+
+        Map<Long, ProductSummary> products = productService.getAllByIds(
+                ranked.stream().map(RankedProduct::productId).toList()
+            ).stream()
+            .collect(Collectors.toMap(ProductSummary::id, Function.identity()));
+
+        Map<Long, Brand> brands = brandService.getAllByIds(
+            products.values().stream().map(ProductSummary::brandId).distinct().toList()
+        );
+
+        List<RankingInfo.Item> items = ranked.stream()
+            .filter(rankedProduct -> products.containsKey(rankedProduct.productId()))
+            .map(rankedProduct -> {
+                ProductSummary product = products.get(rankedProduct.productId());
+                return new RankingInfo.Item(
+                    rankedProduct.rank(),
+                    rankedProduct.score(),
+                    ProductInfo.Detail.from(product, brands.get(product.brandId()), product.likeCount())
+                );
+            })
+            .toList();
+
+        return RankingInfo.PagedList.of(command.window(), items, command.page(), command.size(), totalCount);
+    }
+}
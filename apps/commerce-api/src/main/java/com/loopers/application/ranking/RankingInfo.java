@@ -0,0 +1,37 @@
+package com.loopers.application.ranking;
+
+import com.loopers.application.product.ProductInfo;
+import com.loopers.domain.ranking.RankingWindow;
+import java.util.List;
+
+public class RankingInfo {
+
+    public static record Item(
+        Long rank,
+        Double score,
+        ProductInfo.Detail product
+    ) {}
+
+    public static record PagedList(
+        RankingWindow window,
+        List<Item> items,
+        Integer currentPage,
+        Integer totalPages,
+        Long totalElements,
+        Integer size,
+        Boolean hasNext
+    ) {
+        public static PagedList of(RankingWindow window, List<Item> items, int page, int size, long total) {
+            int totalPages = (int) Math.ceil((double) total / size);
+            return new PagedList(
+                window,
+                items,
+                page,
+                totalPages,
+                total,
+                size,
+                page < totalPages - 1
+            );
+        }
+    }
+}
@@ -28,6 +28,19 @@ public class Brand {
     }
 
     public static Brand create(String name, String description) {
+        validate(name, description);
+
+        return new Brand(name, description);
+    }
+
+    public void update(String name, String description) {
+        validate(name, description);
+
+        this.name = name;
+        this.description = description;
+    }
+
+    private static void validate(String name, String description) {
         if (name == null || name.trim().isEmpty()) {
             throw new CoreException(
                 ErrorType.BAD_REQUEST,
@@ -41,7 +54,5 @@ public class Brand {
                 "브랜드 설명은 필수입니다."
             );
         }
-
-        return new Brand(name, description);
     }
 }
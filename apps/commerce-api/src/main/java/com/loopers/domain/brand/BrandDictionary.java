@@ -0,0 +1,22 @@
+package com.loopers.domain.brand;
+
+import java.util.Optional;
+
+/**
+ * 전체 브랜드를 메모리에 보관하는 읽기 전용 사전.
+ * 조회 경로에서는 저장소를 거치지 않으며, 변경은 refresh/sync 로만 반영된다.
+ */
+public interface BrandDictionary {
+
+    Optional<Brand> get(Long brandId);
+
+    /**
+     * 브랜드 생성/수정 후 호출한다. 이 인스턴스에 즉시 반영하고, 다른 인스턴스가 따라올 수 있도록 변경을 기록한다.
+     */
+    void refresh(Long brandId);
+
+    /**
+     * 다른 인스턴스에서 기록한 변경 중 아직 반영하지 않은 것을 반영한다.
+     */
+    void sync();
+}
@@ -0,0 +1,12 @@
+package com.loopers.domain.brand;
+
+public class BrandEvent {
+
+    public static record Created(
+        Long brandId
+    ) {}
+
+    public static record Updated(
+        Long brandId
+    ) {}
+}
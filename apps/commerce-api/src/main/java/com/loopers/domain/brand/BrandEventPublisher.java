@@ -0,0 +1,8 @@
+package com.loopers.domain.brand;
+
+public interface BrandEventPublisher {
+
+    void publish(BrandEvent.Created event);
+
+    void publish(BrandEvent.Updated event);
+}
@@ -1,10 +1,17 @@
 package com.loopers.domain.brand;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface BrandRepository {
 
     boolean existsById(Long id);
 
     Brand findById(Long id);
 
+    List<Brand> findAllByIds(Collection<Long> ids);
+
+    List<Brand> findAll();
+
     Brand save(Brand brand);
 }
@@ -2,21 +2,79 @@ package com.loopers.domain.brand;
 
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class BrandService {
 
     private final BrandRepository brandRepository;
+    private final BrandDictionary brandDictionary;
+    private final BrandEventPublisher brandEventPublisher;
 
+    @Transactional
     public Brand create(String name, String description) {
         Brand brand = Brand.create(name, description);
-        return brandRepository.save(brand);
+        Brand savedBrand = brandRepository.save(brand);
+
+        brandEventPublisher.publish(new BrandEvent.Created(savedBrand.getId()));
+
+        return savedBrand;
+    }
+
+    @Transactional
+    public Brand update(Long id, String name, String description) {
+        Brand brand = load(id);
+        brand.update(name, description);
+
+        brandEventPublisher.publish(new BrandEvent.Updated(id));
+
+        return brand;
     }
 
+    /**
+     * 브랜드 사전에서 조회한다. 다른 인스턴스에서 막 생성되어 아직 사전에 반영되지 않은 경우에만 저장소를 조회한다.
+     */
     public Brand get(Long id) {
+        return brandDictionary.get(id)
+            .orElseGet(() -> load(id));
+    }
+
+    public Map<Long, Brand> getAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Brand> brands = new HashMap<>();
+        List<Long> missedIds = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            brandDictionary.get(id).ifPresentOrElse(brand -> brands.put(id, brand), () -> missedIds.add(id));
+        }
+
+        if (!missedIds.isEmpty()) {
+            brandRepository.findAllByIds(missedIds)
+                .forEach(brand -> brands.put(brand.getId(), brand));
+        }
+
+        if (brands.size() != ids.stream().distinct().count()) {
+            throw new CoreException(
+                ErrorType.NOT_FOUND,
+                "브랜드가 존재하지 않습니다."
+            );
+        }
+
+        return brands;
+    }
+
+    private Brand load(Long id) {
         Brand brand = brandRepository.findById(id);
 
         if (brand == null) {
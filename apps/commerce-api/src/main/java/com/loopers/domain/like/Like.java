@@ -6,6 +6,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
@@ -15,7 +16,11 @@ import lombok.Getter;
 @Entity
 @Table(
     name = "likes",
-    uniqueConstraints = @UniqueConstraint(columnNames = {"userId", "productId"})
+    uniqueConstraints = @UniqueConstraint(columnNames = {"userId", "productId"}),
+    indexes = {
+        @Index(name = "idx_likes_product_id", columnList = "product_id"),
+        @Index(name = "idx_likes_user_created", columnList = "user_id, created_at")
+    }
 )
 @Getter
 public class Like {
@@ -0,0 +1,30 @@
+package com.loopers.domain.like;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 좋아요/취소 상태를 likes 테이블보다 먼저 기록하는 버퍼.
+ * 기록된 상태는 popPending 으로 꺼내 likes 테이블에 일괄 반영한다.
+ */
+public interface LikeBuffer {
+
+    /**
+     * 현재 상태가 liked 와 다를 때만 기록하고 true 를 반환한다.
+     * 버퍼에 상태가 없으면 persistedState 로 현재 상태를 판단한다.
+     */
+    boolean record(String userId, Long productId, boolean liked, Supplier<Boolean> persistedState);
+
+    Optional<Boolean> get(String userId, Long productId);
+
+    /**
+     * 반영할 상태를 최대 count 개 꺼낸다.
+     */
+    List<PendingLike> popPending(int count);
+
+    /**
+     * 반영에 실패한 상태를 다시 반영 대상으로 되돌린다.
+     */
+    void markPending(List<PendingLike> likes);
+}
@@ -0,0 +1,15 @@
+package com.loopers.domain.like;
+
+import java.util.Optional;
+
+public interface LikeCountCache {
+
+    Optional<Long> getUserLikeCount(String userId);
+
+    void putUserLikeCount(String userId, long count);
+
+    /**
+     * 캐시된 값이 있을 때만 증감한다. 캐시가 비어 있으면 다음 조회 시 다시 집계된다.
+     */
+    void increaseUserLikeCount(String userId, long delta);
+}
@@ -0,0 +1,24 @@
+package com.loopers.domain.like;
+
+import java.util.Set;
+
+public class LikeEvent {
+
+    public static record Liked(
+        String userId,
+        Long productId
+    ) {}
+
+    public static record Unliked(
+        String userId,
+        Long productId
+    ) {}
+
+    /**
+     * 버퍼에 기록된 좋아요가 likes 테이블에 반영되었다.
+     */
+    public static record Flushed(
+        Set<Long> productIds,
+        Set<String> userIds
+    ) {}
+}
@@ -0,0 +1,8 @@
+package com.loopers.domain.like;
+
+public interface LikeEventPublisher {
+
+    void publish(LikeEvent.Liked event);
+
+    void publish(LikeEvent.Unliked event);
+}
@@ -0,0 +1,32 @@
+package com.loopers.domain.like;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 사용자별로 좋아요한 상품 ID 집합을 보관한다.
+ * 적재된 사용자에 대해서는 likes 테이블 대신 이 집합으로 좋아요 여부를 판단한다.
+ */
+public interface LikeMembershipCache {
+
+    /**
+     * productIds 중 사용자가 좋아요한 상품 ID 를 반환한다. 사용자의 집합이 적재되지 않았으면 비어 있다.
+     */
+    Optional<Set<Long>> findLikedAmong(String userId, Collection<Long> productIds);
+
+    /**
+     * 집합이 이미 있거나, 적재하려는 목록을 읽은 뒤 좋아요/취소가 반영되었을 수 있으면 적재하지 않는다.
+     */
+    void load(String userId, Collection<Long> likedProductIds);
+
+    /**
+     * 집합이 적재된 사용자에 대해서만 반영한다. 적재되지 않았으면 진행 중인 적재를 막고,
+     * 다음 조회 시 likes 테이블에서 적재된다.
+     */
+    void add(String userId, Long productId);
+
+    void remove(String userId, Long productId);
+
+    void evict(String userId);
+}
@@ -1,5 +1,7 @@
 package com.loopers.domain.like;
 
+import com.loopers.domain.product.ProductSummary;
+import java.util.Collection;
 import java.util.List;
 
 public interface LikeRepository {
@@ -8,15 +10,39 @@ public interface LikeRepository {
 
     Like findByUserIdAndProductId(String userId, Long productId);
 
-    void deleteByUserIdAndProductId(String userId, Long productId);
+    /**
+     * 좋아요가 없을 때만 한 문장으로 추가하고, 실제로 추가했으면 true 를 반환한다.
+     */
+    boolean insertIfAbsent(Like like);
+
+    long deleteByUserIdAndProductId(String userId, Long productId);
 
     List<Like> findByUserId(String userId);
 
     List<Like> findLikesByUserIdWithPaging(String userId, int page, int size);
 
+    List<ProductSummary> findLikedProductsByUserIdWithPaging(String userId, int page, int size);
+
     long countByProductId(Long productId);
 
+    List<ProductLikeCount> countByProductIds(Collection<Long> productIds);
+
     boolean existsByUserIdAndProductId(String userId, Long productId);
 
     long countByUserId(String userId);
+
+    /**
+     * userIds 와 productIds 의 조합에 해당하는 좋아요를 조회한다. 결과에는 요청하지 않은 조합이 섞일 수 있다.
+     */
+    List<Like> findAllByUserIdsAndProductIds(Collection<String> userIds, Collection<Long> productIds);
+
+    /**
+     * 여러 좋아요를 한 번의 배치로 추가한다. 이미 있는 (userId, productId) 는 무시한다.
+     */
+    void insertIgnoreAll(List<Like> likes);
+
+    /**
+     * 여러 좋아요를 한 번의 배치로 삭제한다.
+     */
+    void deleteAll(List<Like> likes);
 }
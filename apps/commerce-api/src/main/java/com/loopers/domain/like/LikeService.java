@@ -1,30 +1,80 @@
 package com.loopers.domain.like;
 
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductSummary;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
 public class LikeService {
 
     private final LikeRepository likeRepository;
+    private final ProductRepository productRepository;
+    private final LikeCountCache likeCountCache;
+    private final LikeEventPublisher likeEventPublisher;
+    private final LikeBuffer likeBuffer;
+    private final LikeMembershipCache likeMembershipCache;
 
+    @Value("${like.write-mode:DIRECT}")
+    private LikeWriteMode writeMode;
+
+    /**
+     * 좋아요를 추가하고, 좋아요하지 않은 상태에서 실제로 바뀌었으면 true 를 반환한다.
+     * 이미 좋아요한 상태이면 아무것도 바꾸지 않는다.
+     */
     @Transactional
-    public Like like(String userId, Long productId) {
-        Like existingLike = likeRepository.findByUserIdAndProductId(userId, productId);
-        if (existingLike != null) {
-            return existingLike;
+    public boolean like(String userId, Long productId) {
+        Like like = Like.create(userId, productId);
+
+        boolean changed;
+        if (writeMode == LikeWriteMode.WRITE_BEHIND) {
+            changed = recordInBuffer(userId, productId, true);
+        } else {
+            changed = likeRepository.insertIfAbsent(like);
+            if (changed) {
+                productRepository.increaseLikeCount(productId);
+            }
         }
 
-        Like like = Like.create(userId, productId);
-        return likeRepository.save(like);
+        if (changed) {
+            likeEventPublisher.publish(new LikeEvent.Liked(userId, productId));
+        }
+        return changed;
     }
 
+    /**
+     * 좋아요를 취소하고, 좋아요한 상태에서 실제로 바뀌었으면 true 를 반환한다.
+     */
     @Transactional
-    public void unlike(String userId, Long productId) {
-        likeRepository.deleteByUserIdAndProductId(userId, productId);
+    public boolean unlike(String userId, Long productId) {
+        boolean changed;
+        if (writeMode == LikeWriteMode.WRITE_BEHIND) {
+            changed = recordInBuffer(userId, productId, false);
+        } else {
+            changed = likeRepository.deleteByUserIdAndProductId(userId, productId) > 0;
+            if (changed) {
+                productRepository.decreaseLikeCount(productId);
+            }
+        }
+
+        if (changed) {
+            likeEventPublisher.publish(new LikeEvent.Unliked(userId, productId));
+        }
+        return changed;
     }
 
     public List<Like> getAllByUser(String userId) {
@@ -35,15 +85,136 @@ public class LikeService {
         return likeRepository.findLikesByUserIdWithPaging(userId, page, size);
     }
 
+    public List<ProductSummary> getLikedProductsByUserWithPaging(String userId, int page, int size) {
+        return likeRepository.findLikedProductsByUserIdWithPaging(userId, page, size);
+    }
+
     public boolean isLiked(String userId, Long productId) {
-        return likeRepository.existsByUserIdAndProductId(userId, productId);
+        if (writeMode == LikeWriteMode.WRITE_BEHIND) {
+            Optional<Boolean> buffered = likeBuffer.get(userId, productId);
+            if (buffered.isPresent()) {
+                return buffered.get();
+            }
+        }
+
+        return findLikedProductIds(userId, List.of(productId)).contains(productId);
+    }
+
+    /**
+     * productIds 중 사용자가 좋아요한 상품 ID 를 한 번에 조회한다.
+     * 사용자의 좋아요 집합이 캐시에 없으면 likes 테이블에서 한 번 읽어 적재한 뒤 판단한다.
+     */
+    public Set<Long> findLikedProductIds(String userId, Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Set.of();
+        }
+
+        return likeMembershipCache.findLikedAmong(userId, productIds)
+            .orElseGet(() -> {
+                Set<Long> likedProductIds = likeRepository.findByUserId(userId).stream()
+                    .map(Like::getProductId)
+                    .collect(Collectors.toSet());
+                likeMembershipCache.load(userId, likedProductIds);
+
+                return productIds.stream()
+                    .filter(likedProductIds::contains)
+                    .collect(Collectors.toSet());
+            });
     }
 
     public long countByProduct(Long productId) {
         return likeRepository.countByProductId(productId);
     }
 
+    /**
+     * 좋아요/취소가 버퍼에만 기록되어 likes 테이블과 like_count 에 아직 반영되지 않는지 여부.
+     */
+    public boolean isWriteBehind() {
+        return writeMode == LikeWriteMode.WRITE_BEHIND;
+    }
+
+    public Map<Long, Long> countByProducts(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return likeRepository.countByProductIds(productIds).stream()
+            .collect(Collectors.toMap(ProductLikeCount::productId, ProductLikeCount::likeCount));
+    }
+
+    /**
+     * 버퍼에 기록된 좋아요를 최대 batchSize 건 likes 테이블에 반영한다.
+     * 실제로 바뀌는 행만 INSERT IGNORE / DELETE 배치로 반영하고, 상품별 like_count 는 순 증감만큼 한 번씩 갱신한다.
+     * 반영한 건수를 반환한다.
+     */
+    @Transactional
+    public int flushBuffered(int batchSize) {
+        List<PendingLike> pending = likeBuffer.popPending(batchSize);
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        afterRollback(() -> likeBuffer.markPending(pending));
+
+        Set<String> userIds = pending.stream().map(PendingLike::userId).collect(Collectors.toSet());
+        Set<Long> productIds = pending.stream().map(PendingLike::productId).collect(Collectors.toSet());
+        Set<Like> existing = new HashSet<>(likeRepository.findAllByUserIdsAndProductIds(userIds, productIds));
+
+        List<Like> toInsert = new ArrayList<>();
+        List<Like> toDelete = new ArrayList<>();
+        Map<Long, Long> likeCountDeltas = new HashMap<>();
+        for (PendingLike like : pending) {
+            Like target = Like.create(like.userId(), like.productId());
+            if (like.liked() && !existing.contains(target)) {
+                toInsert.add(target);
+                likeCountDeltas.merge(like.productId(), 1L, Long::sum);
+            } else if (!like.liked() && existing.contains(target)) {
+                toDelete.add(target);
+                likeCountDeltas.merge(like.productId(), -1L, Long::sum);
+            }
+        }
+
+        if (!toInsert.isEmpty()) {
+            likeRepository.insertIgnoreAll(toInsert);
+        }
+        if (!toDelete.isEmpty()) {
+            likeRepository.deleteAll(toDelete);
+        }
+        productRepository.increaseLikeCounts(likeCountDeltas);
+
+        likeEventPublisher.publish(new LikeEvent.Flushed(likeCountDeltas.keySet(), userIds));
+
+        return pending.size();
+    }
+
     public long countByUser(String userId) {
-        return likeRepository.countByUserId(userId);
+        return likeCountCache.getUserLikeCount(userId)
+            .orElseGet(() -> {
+                long count = likeRepository.countByUserId(userId);
+                likeCountCache.putUserLikeCount(userId, count);
+                return count;
+            });
+    }
+
+    /**
+     * 이미 같은 상태이면 기록하지 않는다. 버퍼에 상태가 없을 때만 likes 테이블에서 현재 상태를 읽는다.
+     */
+    private boolean recordInBuffer(String userId, Long productId, boolean liked) {
+        return likeBuffer.record(
+            userId,
+            productId,
+            liked,
+            () -> likeRepository.existsByUserIdAndProductId(userId, productId)
+        );
+    }
+
+    private void afterRollback(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
     }
 }
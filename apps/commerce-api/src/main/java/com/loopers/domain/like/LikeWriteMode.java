@@ -0,0 +1,14 @@
+package com.loopers.domain.like;
+
+public enum LikeWriteMode {
+    /**
+     * 좋아요/취소마다 likes 테이블과 like_count 를 같은 트랜잭션에서 바로 갱신한다.
+     */
+    DIRECT,
+
+    /**
+     * 좋아요/취소 상태를 Redis 버퍼에 먼저 기록하고 바로 그 상태로 응답한다.
+     * likes 테이블과 like_count 는 반영 스케줄러가 일괄로 맞추므로, 목록과 개수는 반영 주기만큼 늦게 바뀐다.
+     */
+    WRITE_BEHIND
+}
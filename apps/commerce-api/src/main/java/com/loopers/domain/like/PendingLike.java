@@ -0,0 +1,11 @@
+package com.loopers.domain.like;
+
+/**
+ * 버퍼에 기록되었지만 아직 likes 테이블에 반영되지 않은 좋아요 상태.
+ */
+public record PendingLike(
+    String userId,
+    Long productId,
+    boolean liked
+) {
+}
@@ -0,0 +1,7 @@
+package com.loopers.domain.like;
+
+public record ProductLikeCount(
+    Long productId,
+    Long likeCount
+) {
+}
@@ -22,6 +22,8 @@ import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.Getter;
 
 @Entity
@@ -93,6 +95,18 @@ public class Order {
         this.discountAmount = discount;
     }
 
+    /**
+     * 상품 ID 별 주문 수량. 같은 상품이 여러 줄이면 합산한다.
+     */
+    public Map<Long, Integer> getQuantitiesByProduct() {
+        return items.stream()
+            .collect(Collectors.toMap(
+                OrderItem::getProductId,
+                item -> item.getQuantity().getValue(),
+                Integer::sum
+            ));
+    }
+
     public Money getFinalPrice() {
         return this.totalPrice.subtract(this.discountAmount);
     }
@@ -0,0 +1,15 @@
+package com.loopers.domain.order;
+
+import java.util.Map;
+
+public class OrderEvent {
+
+    public static record PaymentCompleted(
+        Long orderId,
+        Map<Long, Integer> quantities // 상품 ID 별 주문 수량
+    ) {
+        public static PaymentCompleted from(Order order) {
+            return new PaymentCompleted(order.getId(), order.getQuantitiesByProduct());
+        }
+    }
+}
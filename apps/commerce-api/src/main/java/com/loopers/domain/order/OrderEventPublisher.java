@@ -0,0 +1,6 @@
+package com.loopers.domain.order;
+
+public interface OrderEventPublisher {
+
+    void publish(OrderEvent.PaymentCompleted event);
+}
@@ -1,5 +1,6 @@
 package com.loopers.domain.order;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface OrderRepository {
@@ -10,5 +11,13 @@ public interface OrderRepository {
 
     Order findByIdAndUserId(Long orderId, String userId);
 
-    List<Order> findByUserIdOrderByOrderedAtDesc(String userId);
+    /**
+     * 주문 항목은 초기화하지 않고 주문별 항목 수만 집계해 최신 주문순으로 반환한다.
+     */
+    List<OrderSummary> findSummariesByUserId(String userId);
+
+    /**
+     * 아직 결제 대기(PAYMENT_PENDING) 상태인 주문만 취소한다. 취소된 건수를 반환한다.
+     */
+    int cancelAllPaymentPending(Collection<Long> orderIds);
 }
@@ -2,6 +2,7 @@ package com.loopers.domain.order;
 
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import java.util.Collection;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -11,11 +12,21 @@ import org.springframework.stereotype.Service;
 public class OrderService {
 
     private final OrderRepository orderRepository;
+    private final OrderEventPublisher orderEventPublisher;
 
     public Order place(Order order) {
         return orderRepository.save(order);
     }
 
+    public Order completePayment(Order order) {
+        order.completePayment();
+        Order savedOrder = orderRepository.save(order);
+
+        orderEventPublisher.publish(OrderEvent.PaymentCompleted.from(savedOrder));
+
+        return savedOrder;
+    }
+
     public Order get(Long id) {
         Order order = orderRepository.findById(id);
 
@@ -42,7 +53,14 @@ public class OrderService {
         return order;
     }
 
-    public List<Order> getAllByUser(String userId) {
-        return orderRepository.findByUserIdOrderByOrderedAtDesc(userId);
+    public List<OrderSummary> getAllByUser(String userId) {
+        return orderRepository.findSummariesByUserId(userId);
+    }
+
+    /**
+     * 결제 대기 중인 채로 재고 보유 시간이 지난 주문을 취소한다.
+     */
+    public int cancelUnpaid(Collection<Long> orderIds) {
+        return orderRepository.cancelAllPaymentPending(orderIds);
     }
 }
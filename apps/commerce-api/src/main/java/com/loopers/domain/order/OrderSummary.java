@@ -0,0 +1,29 @@
+package com.loopers.domain.order;
+
+import com.loopers.domain.product.Money;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 목록 조회용 스냅샷. 주문 항목 컬렉션을 초기화하지 않고 항목 수만 집계해 담는다.
+ */
+public record OrderSummary(
+    Long id,
+    Money totalPrice,
+    OrderStatus status,
+    int itemCount,
+    LocalDateTime orderedAt
+) {
+    /**
+     * QueryDSL Projections.constructor 용.
+     */
+    public OrderSummary(
+        Long id,
+        BigDecimal totalPrice,
+        OrderStatus status,
+        Long itemCount,
+        LocalDateTime orderedAt
+    ) {
+        this(id, Money.of(totalPrice), status, itemCount.intValue(), orderedAt);
+    }
+}
@@ -0,0 +1,89 @@
+package com.loopers.domain.order;
+
+import com.loopers.domain.product.Quantity;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.AttributeOverrides;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+/**
+ * 결제를 기다리는 주문이 차감해 둔 재고.
+ * 결제가 성공하면 확정되고, 결제가 실패하거나 만료 시각까지 결제되지 않으면 반환 스케줄러가 재고를 되돌린다.
+ */
+@Entity
+@Table(
+    name = "stock_hold",
+    indexes = {
+        @Index(name = "idx_stock_hold_status_expires_at", columnList = "status, expires_at"),
+        @Index(name = "idx_stock_hold_order_id", columnList = "order_id")
+    }
+)
+@Getter
+public class StockHold {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long orderId;
+
+    private Long productId;
+
+    @Embedded
+    @AttributeOverrides({
+        @AttributeOverride(name = "value", column = @Column(name = "quantity"))
+    })
+    private Quantity quantity;
+
+    @Enumerated(EnumType.STRING)
+    private StockHoldStatus status;
+
+    private LocalDateTime expiresAt;
+
+    protected StockHold() {}
+
+    private StockHold(Long orderId, Long productId, Quantity quantity, LocalDateTime expiresAt) {
+        this.orderId = orderId;
+        this.productId = productId;
+        this.quantity = quantity;
+        this.status = StockHoldStatus.HELD;
+        this.expiresAt = expiresAt;
+    }
+
+    public static StockHold create(Long orderId, Long productId, Quantity quantity, LocalDateTime expiresAt) {
+        if (orderId == null) {
+            throw new CoreException(
+                ErrorType.BAD_REQUEST,
+                "주문 ID는 필수입니다."
+            );
+        }
+
+        if (productId == null) {
+            throw new CoreException(
+                ErrorType.BAD_REQUEST,
+                "Product ID는 필수입니다."
+            );
+        }
+
+        if (expiresAt == null) {
+            throw new CoreException(
+                ErrorType.BAD_REQUEST,
+                "만료 시각은 필수입니다."
+            );
+        }
+
+        return new StockHold(orderId, productId, quantity, expiresAt);
+    }
+}
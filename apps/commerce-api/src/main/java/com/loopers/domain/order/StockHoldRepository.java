@@ -0,0 +1,30 @@
+package com.loopers.domain.order;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface StockHoldRepository {
+
+    List<StockHold> saveAll(List<StockHold> holds);
+
+    /**
+     * 주문의 보유 재고를 확정한다. 확정된 건수를 반환한다.
+     */
+    int confirmByOrderId(Long orderId);
+
+    /**
+     * 주문의 보유 재고 만료 시각을 expiresAt 으로 앞당긴다.
+     */
+    int expireByOrderId(Long orderId, LocalDateTime expiresAt);
+
+    boolean existsByOrderIdAndStatus(Long orderId, StockHoldStatus status);
+
+    /**
+     * now 까지 만료된 보유 재고를 만료 시각 순으로 최대 limit 건 잠가서 조회한다.
+     * 다른 인스턴스가 잠근 행은 건너뛴다.
+     */
+    List<StockHold> findExpiredWithLock(LocalDateTime now, int limit);
+
+    int releaseAll(Collection<Long> ids);
+}
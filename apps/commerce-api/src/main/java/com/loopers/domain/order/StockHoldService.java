@@ -0,0 +1,72 @@
+package com.loopers.domain.order;
+
+import com.loopers.domain.product.Quantity;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+@Service
+public class StockHoldService {
+
+    private final StockHoldRepository stockHoldRepository;
+
+    @Value("${order.stock-hold.ttl:15m}")
+    private Duration ttl;
+
+    @Transactional
+    public List<StockHold> hold(Long orderId, Map<Long, Quantity> quantities) {
+        LocalDateTime expiresAt = LocalDateTime.now().plus(ttl);
+
+        List<StockHold> holds = quantities.entrySet().stream()
+            .map(entry -> StockHold.create(orderId, entry.getKey(), entry.getValue(), expiresAt))
+            .toList();
+
+        return stockHoldRepository.saveAll(holds);
+    }
+
+    /**
+     * 결제가 성공한 주문의 보유 재고를 확정한다. 이미 만료되어 반환된 주문이면 예외가 발생한다.
+     */
+    @Transactional
+    public void confirm(Long orderId) {
+        int confirmed = stockHoldRepository.confirmByOrderId(orderId);
+
+        if (confirmed == 0 && stockHoldRepository.existsByOrderIdAndStatus(orderId, StockHoldStatus.RELEASED)) {
+            throw new CoreException(
+                ErrorType.CONFLICT,
+                "재고 보유 시간이 만료된 주문입니다."
+            );
+        }
+    }
+
+    /**
+     * 결제가 실패한 주문의 보유 재고를 즉시 만료시켜 다음 반환 주기에 되돌려지도록 한다.
+     */
+    @Transactional
+    public void expire(Long orderId) {
+        stockHoldRepository.expireByOrderId(orderId, LocalDateTime.now());
+    }
+
+    /**
+     * 만료된 보유 재고를 최대 batchSize 건 반환 처리하고, 반환한 보유 재고를 돌려준다.
+     * 재고를 실제로 되돌리는 것은 호출 측이 같은 트랜잭션 안에서 수행한다.
+     */
+    @Transactional
+    public List<StockHold> releaseExpired(int batchSize) {
+        List<StockHold> holds = stockHoldRepository.findExpiredWithLock(LocalDateTime.now(), batchSize);
+
+        if (!holds.isEmpty()) {
+            stockHoldRepository.releaseAll(holds.stream().map(StockHold::getId).toList());
+        }
+
+        return holds;
+    }
+}
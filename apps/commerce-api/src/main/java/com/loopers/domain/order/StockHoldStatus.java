@@ -0,0 +1,17 @@
+package com.loopers.domain.order;
+
+public enum StockHoldStatus {
+    HELD("보유중"),
+    CONFIRMED("확정"),
+    RELEASED("반환");
+
+    private final String description;
+
+    StockHoldStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
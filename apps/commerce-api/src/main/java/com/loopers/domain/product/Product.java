@@ -10,12 +10,23 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.Getter;
 
 @Entity
-@Table(name = "product")
+@Table(
+    name = "product",
+    indexes = {
+        @Index(name = "idx_product_like_count", columnList = "like_count"),
+        @Index(name = "idx_product_created_at", columnList = "created_at"),
+        @Index(name = "idx_product_price", columnList = "price"),
+        @Index(name = "idx_product_brand_created_at", columnList = "brand_id, created_at"),
+        @Index(name = "idx_product_brand_price", columnList = "brand_id, price"),
+        @Index(name = "idx_product_brand_like_count", columnList = "brand_id, like_count")
+    }
+)
 @Getter
 public class Product {
 
@@ -39,6 +50,14 @@ public class Product {
 
     private Long brandId;
 
+    private long likeCount;
+
+    /**
+     * true 이면 재고를 product_stock_bucket 의 여러 행에 나누어 관리한다.
+     * 이때 stockQuantity 는 마지막 재분배 시점의 합계이며, 정확한 재고는 버킷 합으로 계산한다.
+     */
+    private boolean stockSharded;
+
     private LocalDateTime createdAt;
 
     protected Product() {}
@@ -48,6 +67,8 @@ public class Product {
         this.price = price;
         this.stockQuantity = stockQuantity;
         this.brandId = brandId;
+        this.likeCount = 0L;
+        this.stockSharded = false;
         this.createdAt = LocalDateTime.now();
     }
 
@@ -99,4 +120,27 @@ public class Product {
 
         this.stockQuantity = this.stockQuantity.subtract(quantity);
     }
+
+    public void enableStockSharding() {
+        if (this.stockSharded) {
+            throw new CoreException(
+                ErrorType.CONFLICT,
+                "이미 재고 분할 모드인 상품입니다."
+            );
+        }
+
+        this.stockSharded = true;
+    }
+
+    public void disableStockSharding(Quantity stockQuantity) {
+        if (!this.stockSharded) {
+            throw new CoreException(
+                ErrorType.BAD_REQUEST,
+                "재고 분할 모드가 아닌 상품입니다."
+            );
+        }
+
+        this.stockSharded = false;
+        this.stockQuantity = stockQuantity;
+    }
 }
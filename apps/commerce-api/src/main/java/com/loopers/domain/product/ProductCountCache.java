@@ -0,0 +1,21 @@
+package com.loopers.domain.product;
+
+import java.util.Optional;
+
+public interface ProductCountCache {
+
+    Optional<Long> getTotalCount();
+
+    void putTotalCount(long count);
+
+    /**
+     * 캐시된 값이 있을 때만 증감한다. 캐시가 비어 있으면 다음 조회 시 다시 집계된다.
+     */
+    void increaseTotalCount(long delta);
+
+    Optional<Long> getBrandCount(Long brandId);
+
+    void putBrandCount(Long brandId, long count);
+
+    void increaseBrandCount(Long brandId, long delta);
+}
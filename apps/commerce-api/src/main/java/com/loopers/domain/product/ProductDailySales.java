@@ -0,0 +1,41 @@
+package com.loopers.domain.product;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.Getter;
+
+/**
+ * 상품별 일별 판매 수량 롤업. 기간 판매량순 목록은 주문 테이블 대신 이 테이블의 기간 범위를 합산한다.
+ */
+@Entity
+@Table(
+    name = "product_daily_sales",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_product_daily_sales_date_product",
+        columnNames = {"sales_date", "product_id"}
+    ),
+    indexes = {
+        @Index(name = "idx_product_daily_sales_date_count", columnList = "sales_date, sales_count")
+    }
+)
+@Getter
+public class ProductDailySales {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long productId;
+
+    private LocalDate salesDate;
+
+    private long salesCount;
+
+    protected ProductDailySales() {}
+}
@@ -0,0 +1,17 @@
+package com.loopers.domain.product;
+
+public class ProductEvent {
+
+    public static record Created(
+        Long productId,
+        Long brandId
+    ) {
+        public static Created from(Product product) {
+            return new Created(product.getId(), product.getBrandId());
+        }
+    }
+
+    public static record StockChanged(
+        Long productId
+    ) {}
+}
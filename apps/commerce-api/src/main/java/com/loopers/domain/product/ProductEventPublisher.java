@@ -0,0 +1,8 @@
+package com.loopers.domain.product;
+
+public interface ProductEventPublisher {
+
+    void publish(ProductEvent.Created event);
+
+    void publish(ProductEvent.StockChanged event);
+}
@@ -1,7 +1,10 @@
 package com.loopers.domain.product;
 
+import com.loopers.application.product.ProductCursor;
 import com.loopers.application.product.ProductSortOption;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ProductRepository {
@@ -14,7 +17,48 @@ public interface ProductRepository {
 
     boolean existsById(Long id);
 
-    List<Product> findAllWithSortingAndPaging(ProductSortOption sort, int page, int size);
+    List<ProductSummary> findAllByIds(Collection<Long> ids);
+
+    List<ProductSummary> findAllWithSortingAndPaging(ProductSortOption sort, int page, int size);
+
+    List<ProductSummary> findAllByBrandIdWithSortingAndPaging(Long brandId, ProductSortOption sort, int page, int size);
+
+    long countByBrandId(Long brandId);
+
+    List<ProductSummary> findAllByCursor(ProductSortOption sort, ProductCursor cursor, int size);
 
     long countAll();
+
+    long estimateCount();
+
+    /**
+     * 상품 행을 ID 오름차순으로 잠그고, 잠긴 상품 ID 를 반환한다.
+     */
+    List<Long> lockAllByIds(Collection<Long> productIds);
+
+    List<Long> findStockShardedIds(Collection<Long> productIds);
+
+    List<Long> findAllStockShardedIds();
+
+    /**
+     * 재고가 quantity 이상일 때만 차감한다. 차감된 행 수(0 또는 1)를 반환한다.
+     */
+    int decreaseStockIfAvailable(Long productId, int quantity);
+
+    void updateStock(Long productId, int stockQuantity);
+
+    /**
+     * 상품별 like_count 를 delta 만큼 증감한다. 0 미만으로는 내려가지 않는다.
+     */
+    void increaseLikeCounts(Map<Long, Long> deltas);
+
+    void increaseStock(Long productId, int quantity);
+
+    void increaseLikeCount(Long productId);
+
+    void decreaseLikeCount(Long productId);
+
+    Long findMaxId();
+
+    int reconcileLikeCounts(Long fromId, Long toId);
 }
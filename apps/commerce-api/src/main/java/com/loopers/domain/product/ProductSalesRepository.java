@@ -0,0 +1,22 @@
+package com.loopers.domain.product;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public interface ProductSalesRepository {
+
+    void createStats(Long productId);
+
+    /**
+     * 상품별 누적 판매 수량과 date 의 일별 판매 수량에 quantities 를 더한다. 행이 없으면 만든다.
+     */
+    void increaseSales(Map<Long, Integer> quantities, LocalDate date);
+
+    /**
+     * from ~ to (포함) 기간 판매 수량 합계가 많은 순으로 상품 ID 를 반환한다.
+     */
+    List<Long> findBestSellerIds(LocalDate from, LocalDate to, int page, int size);
+
+    long countBestSellers(LocalDate from, LocalDate to);
+}
@@ -0,0 +1,37 @@
+package com.loopers.domain.product;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class ProductSalesService {
+
+    private final ProductSalesRepository productSalesRepository;
+
+    /**
+     * 결제가 완료된 주문의 상품별 수량을 판매량에 반영한다. 결제 완료와 같은 트랜잭션에서 호출한다.
+     */
+    @Transactional
+    public void recordSales(Map<Long, Integer> quantities, LocalDate date) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+
+        productSalesRepository.increaseSales(quantities, date);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> getBestSellerIds(LocalDate from, LocalDate to, int page, int size) {
+        return productSalesRepository.findBestSellerIds(from, to, page, size);
+    }
+
+    @Transactional(readOnly = true)
+    public long countBestSellers(LocalDate from, LocalDate to) {
+        return productSalesRepository.countBestSellers(from, to);
+    }
+}
@@ -0,0 +1,31 @@
+package com.loopers.domain.product;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+/**
+ * 상품별 누적 판매 수량. 결제가 완료될 때마다 증가시키며, 판매량순 목록은 이 테이블의 인덱스를 따라 읽는다.
+ */
+@Entity
+@Table(
+    name = "product_sales_stats",
+    indexes = {
+        @Index(name = "idx_product_sales_stats_sales_count", columnList = "sales_count, product_id")
+    }
+)
+@Getter
+public class ProductSalesStats {
+
+    @Id
+    private Long productId;
+
+    private long salesCount;
+
+    private LocalDateTime updatedAt;
+
+    protected ProductSalesStats() {}
+}
@@ -1,18 +1,56 @@
 package com.loopers.domain.product;
 
+import com.loopers.application.product.ProductCursor;
 import com.loopers.application.product.ProductSortOption;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @RequiredArgsConstructor
 @Service
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final ProductCountCache productCountCache;
+    private final ProductEventPublisher productEventPublisher;
+    private final ProductStockReservation productStockReservation;
+    private final ProductStockShardService productStockShardService;
+    private final ProductStockBatcher productStockBatcher;
+    private final ProductStockActor productStockActor;
+    private final ProductSalesRepository productSalesRepository;
+
+    /**
+     * true 이면 전체 상품 수를 COUNT(*) 대신 테이블 통계 추정치로 계산한다.
+     */
+    @Value("${product.count.approximate:false}")
+    private boolean approximateCount;
+
+    @Value("${product.stock.decrease-mode:CONDITIONAL_UPDATE}")
+    private StockDecreaseMode stockDecreaseMode = StockDecreaseMode.CONDITIONAL_UPDATE;
+
+    /**
+     * GROUP_COMMIT, INVENTORY_ACTOR 모드에서 차감 결과를 기다리는 최대 시간.
+     */
+    @Value("${product.stock.result-timeout:3s}")
+    private Duration stockResultTimeout;
 
     @Transactional
     public Product create(
@@ -22,7 +60,12 @@ public class ProductService {
         Long brandId
     ) {
         Product product = Product.create(name, price, stockQuantity, brandId);
-        return productRepository.save(product);
+        Product savedProduct = productRepository.save(product);
+        productSalesRepository.createStats(savedProduct.getId());
+
+        productEventPublisher.publish(ProductEvent.Created.from(savedProduct));
+
+        return savedProduct;
     }
 
     @Transactional(readOnly = true)
@@ -34,8 +77,20 @@ public class ProductService {
             ));
     }
 
+    /**
+     * 존재하는 상품만 반환하며, 순서는 보장하지 않는다.
+     */
     @Transactional(readOnly = true)
-    public List<Product> getAllWithSortingAndPaging(
+    public List<ProductSummary> getAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return productRepository.findAllByIds(ids);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProductSummary> getAllWithSortingAndPaging(
         ProductSortOption sort,
         int page,
         int size
@@ -43,17 +98,325 @@ public class ProductService {
         return productRepository.findAllWithSortingAndPaging(sort, page, size);
     }
 
+    @Transactional(readOnly = true)
+    public List<ProductSummary> getAllByBrandWithSortingAndPaging(
+        Long brandId,
+        ProductSortOption sort,
+        int page,
+        int size
+    ) {
+        return productRepository.findAllByBrandIdWithSortingAndPaging(brandId, sort, page, size);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProductSummary> getAllByCursor(
+        ProductSortOption sort,
+        ProductCursor cursor,
+        int size
+    ) {
+        return productRepository.findAllByCursor(sort, cursor, size);
+    }
+
     @Transactional
     public void decreaseStock(Long productId, Quantity quantity) {
-        Product product = productRepository.findByIdWithLock(productId)
-            .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품이 존재하지 않습니다."));
+        decreaseStocks(Map.of(productId, quantity));
+    }
+
+    /**
+     * 여러 상품의 재고를 상품 ID 오름차순으로 차감한다.
+     * 모든 주문이 같은 순서로 행 잠금을 잡으므로, 상품 구성이 겹치는 주문끼리 교착 상태에 빠지지 않는다.
+     * PESSIMISTIC_LOCK 모드에서는 차감 전에 대상 행 전체를 한 번의 SELECT ... FOR UPDATE 로 잠근다.
+     * 재고 분할 모드 상품은 product 행 대신 재고 버킷 중 하나에서 차감한다.
+     */
+    @Transactional
+    public void decreaseStocks(Map<Long, Quantity> quantities) {
+        SortedMap<Long, Quantity> sortedQuantities = new TreeMap<>(quantities);
+
+        Set<Long> shardedIds = stockDecreaseMode.updatesDatabase()
+            ? new HashSet<>(productRepository.findStockShardedIds(sortedQuantities.keySet()))
+            : Set.of();
+
+        if (stockDecreaseMode == StockDecreaseMode.PESSIMISTIC_LOCK) {
+            lockAll(sortedQuantities.keySet().stream()
+                .filter(productId -> !shardedIds.contains(productId))
+                .toList());
+        }
 
-        product.decreaseStock(quantity);
-        productRepository.save(product);
+        Map<Long, CompletableFuture<ProductStockBatcher.Result>> batched = new HashMap<>();
+        if (stockDecreaseMode == StockDecreaseMode.GROUP_COMMIT) {
+            sortedQuantities.forEach((productId, quantity) -> {
+                if (!shardedIds.contains(productId)) {
+                    batched.put(productId, submitToBatch(productId, quantity));
+                }
+            });
+        }
+
+        sortedQuantities.forEach((productId, quantity) -> {
+            if (stockDecreaseMode == StockDecreaseMode.REDIS_RESERVATION) {
+                reserveStock(productId, quantity);
+            } else if (stockDecreaseMode == StockDecreaseMode.INVENTORY_ACTOR) {
+                decreaseInActor(productId, quantity);
+            } else if (shardedIds.contains(productId)) {
+                productStockShardService.decrease(productId, quantity);
+            } else if (batched.containsKey(productId)) {
+                awaitBatch(batched.get(productId));
+            } else {
+                decreaseStockConditionally(productId, quantity);
+            }
+
+            productEventPublisher.publish(new ProductEvent.StockChanged(productId));
+        });
+    }
+
+    /**
+     * 차감했던 재고를 되돌린다. 현재 차감 방식이 재고를 보관하는 곳에 되돌리며,
+     * DB 밖(Redis 예약, 인벤토리 액터)에 되돌리는 경우에는 이 트랜잭션이 커밋된 뒤에 반영한다.
+     */
+    @Transactional
+    public void increaseStocks(Map<Long, Quantity> quantities) {
+        SortedMap<Long, Quantity> sortedQuantities = new TreeMap<>(quantities);
+
+        Set<Long> shardedIds = stockDecreaseMode.updatesDatabase()
+            ? new HashSet<>(productRepository.findStockShardedIds(sortedQuantities.keySet()))
+            : Set.of();
+
+        sortedQuantities.forEach((productId, quantity) -> {
+            if (stockDecreaseMode == StockDecreaseMode.REDIS_RESERVATION
+                && productStockReservation.getStock(productId).isPresent()) {
+                afterCommit(() -> productStockReservation.release(productId, quantity.getValue()));
+            } else if (stockDecreaseMode == StockDecreaseMode.INVENTORY_ACTOR) {
+                afterCommit(() -> productStockActor.release(productId, quantity.getValue()));
+            } else if (shardedIds.contains(productId)) {
+                productStockShardService.increase(productId, quantity);
+            } else {
+                productRepository.increaseStock(productId, quantity.getValue());
+            }
+
+            productEventPublisher.publish(new ProductEvent.StockChanged(productId));
+        });
+    }
+
+    /**
+     * 재고 분할 모드 상품은 버킷 합계를, 그 외에는 product.stock_quantity 를 반환한다.
+     */
+    @Transactional(readOnly = true)
+    public Quantity getStockQuantity(Product product) {
+        if (product.isStockSharded()) {
+            return productStockShardService.getTotal(product.getId());
+        }
+
+        return product.getStockQuantity();
+    }
+
+    /**
+     * 예약으로 바뀐 재고를 최대 batchSize 개 상품만큼 product.stock_quantity 에 반영한다.
+     * 반영하지 못하고 롤백되면 다음 동기화에서 다시 시도하도록 되돌려 놓는다.
+     * 여러 인스턴스의 동기화가 엇갈려 커밋되면 먼저 읽은 값이 나중에 덮어쓸 수 있으므로,
+     * 커밋 후 예약 재고를 다시 읽어 반영한 값과 다르면 다음 동기화 대상으로 되돌려 놓는다.
+     */
+    @Transactional
+    public int syncReservedStocks(int batchSize) {
+        List<Long> productIds = productStockReservation.popChanged(batchSize);
+        afterRollback(() -> productIds.forEach(productStockReservation::markChanged));
+
+        Map<Long, Integer> written = new HashMap<>();
+        for (Long productId : productIds) {
+            productStockReservation.getStock(productId).ifPresent(stock -> {
+                productRepository.updateStock(productId, stock);
+                written.put(productId, stock);
+                productEventPublisher.publish(new ProductEvent.StockChanged(productId));
+            });
+        }
+
+        afterCommit(() -> written.forEach((productId, stock) -> {
+            if (!productStockReservation.getStock(productId).map(stock::equals).orElse(true)) {
+                productStockReservation.markChanged(productId);
+            }
+        }));
+
+        return productIds.size();
+    }
+
+    /**
+     * 브랜드 상품 수는 (brand_id, ...) 인덱스 범위만 세므로 추정치 없이 정확히 세고, 전체 상품 수와 같은 TTL 로 캐시한다.
+     */
+    @Transactional(readOnly = true)
+    public long countByBrand(Long brandId) {
+        return productCountCache.getBrandCount(brandId)
+            .orElseGet(() -> {
+                long count = productRepository.countByBrandId(brandId);
+                productCountCache.putBrandCount(brandId, count);
+                return count;
+            });
     }
 
     @Transactional(readOnly = true)
     public long count() {
-        return productRepository.countAll();
+        return productCountCache.getTotalCount()
+            .orElseGet(() -> {
+                long count = approximateCount
+                    ? productRepository.estimateCount()
+                    : productRepository.countAll();
+                productCountCache.putTotalCount(count);
+                return count;
+            });
+    }
+
+    @Transactional(readOnly = true)
+    public long getMaxId() {
+        Long maxId = productRepository.findMaxId();
+        return maxId != null ? maxId : 0L;
+    }
+
+    /**
+     * [fromId, toId] 구간 상품의 like_count 를 likes 테이블 기준으로 보정한다.
+     * 보정된 상품 수를 반환한다.
+     */
+    @Transactional
+    public int reconcileLikeCounts(Long fromId, Long toId) {
+        return productRepository.reconcileLikeCounts(fromId, toId);
+    }
+
+    private void lockAll(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> lockedIds = productRepository.lockAllByIds(productIds);
+
+        if (lockedIds.size() != productIds.size()) {
+            throw new CoreException(ErrorType.NOT_FOUND, "상품이 존재하지 않습니다.");
+        }
+    }
+
+    /**
+     * 재고 확인과 차감을 하나의 UPDATE 로 처리한다. 차감된 행이 없으면 상품이 없거나 재고가 부족한 경우이다.
+     */
+    private void decreaseStockConditionally(Long productId, Quantity quantity) {
+        int updated = productRepository.decreaseStockIfAvailable(productId, quantity.getValue());
+        if (updated > 0) {
+            return;
+        }
+
+        if (!productRepository.existsById(productId)) {
+            throw new CoreException(ErrorType.NOT_FOUND, "상품이 존재하지 않습니다.");
+        }
+
+        throw new CoreException(
+            ErrorType.BAD_REQUEST,
+            "재고 수량이 부족합니다."
+        );
+    }
+
+    /**
+     * 모든 상품의 요청을 먼저 넣어 두고 결과를 기다리므로, 여러 상품의 배치가 동시에 진행된다.
+     * 배치 차감은 별도 트랜잭션으로 커밋되므로, 이 트랜잭션이 커밋되지 않으면 성공한 차감을 되돌린다.
+     */
+    private CompletableFuture<ProductStockBatcher.Result> submitToBatch(Long productId, Quantity quantity) {
+        CompletableFuture<ProductStockBatcher.Result> future = productStockBatcher.decrease(productId, quantity.getValue());
+
+        afterRollback(() -> future.thenAccept(result -> {
+            if (result == ProductStockBatcher.Result.DECREASED) {
+                productStockBatcher.restore(productId, quantity.getValue());
+            }
+        }));
+
+        return future;
+    }
+
+    private void awaitBatch(CompletableFuture<ProductStockBatcher.Result> future) {
+        switch (await(future)) {
+            case DECREASED -> {
+            }
+            case NOT_FOUND -> throw new CoreException(ErrorType.NOT_FOUND, "상품이 존재하지 않습니다.");
+            case INSUFFICIENT -> throw new CoreException(
+                ErrorType.BAD_REQUEST,
+                "재고 수량이 부족합니다."
+            );
+            case BUSY -> throw new CoreException(
+                ErrorType.CONFLICT,
+                "주문이 몰려 재고를 차감하지 못했습니다. 잠시 후 다시 시도해 주세요."
+            );
+        }
+    }
+
+    /**
+     * 차감은 이 트랜잭션 밖의 메모리 카운터에서 일어나므로, 이 트랜잭션이 커밋되지 않으면 차감한 수량을 되돌린다.
+     */
+    private void decreaseInActor(Long productId, Quantity quantity) {
+        CompletableFuture<ProductStockActor.Result> future = productStockActor.decrease(productId, quantity.getValue());
+
+        afterRollback(() -> future.thenAccept(result -> {
+            if (result == ProductStockActor.Result.DECREASED) {
+                productStockActor.release(productId, quantity.getValue());
+            }
+        }));
+
+        switch (await(future)) {
+            case DECREASED -> {
+            }
+            case NOT_FOUND -> throw new CoreException(ErrorType.NOT_FOUND, "상품이 존재하지 않습니다.");
+            case INSUFFICIENT -> throw new CoreException(
+                ErrorType.BAD_REQUEST,
+                "재고 수량이 부족합니다."
+            );
+            case NOT_OWNER -> throw new CoreException(
+                ErrorType.CONFLICT,
+                "다른 서버가 재고를 관리하는 상품입니다. 잠시 후 다시 시도해 주세요."
+            );
+        }
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get(stockResultTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "재고 차감 대기 중 중단되었습니다.");
+        } catch (ExecutionException | TimeoutException e) {
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "재고 차감을 완료하지 못했습니다.");
+        }
+    }
+
+    /**
+     * 예약 재고가 아직 없으면 DB 재고로 초기화한 뒤 다시 예약한다.
+     */
+    private void reserveStock(Long productId, Quantity quantity) {
+        ProductStockReservation.Result result = productStockReservation.reserve(productId, quantity.getValue());
+
+        if (result == ProductStockReservation.Result.NOT_INITIALIZED) {
+            Product product = get(productId);
+            productStockReservation.initialize(productId, product.getStockQuantity().getValue());
+            result = productStockReservation.reserve(productId, quantity.getValue());
+        }
+
+        if (result != ProductStockReservation.Result.RESERVED) {
+            throw new CoreException(
+                ErrorType.BAD_REQUEST,
+                "재고 수량이 부족합니다."
+            );
+        }
+
+        afterRollback(() -> productStockReservation.release(productId, quantity.getValue()));
+    }
+
+    private void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void afterRollback(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
     }
 }
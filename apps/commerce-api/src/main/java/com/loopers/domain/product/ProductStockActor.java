@@ -0,0 +1,29 @@
+package com.loopers.domain.product;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 상품 재고를 파티션별 단일 스레드가 소유한 메모리 카운터에서 차감한다.
+ * 한 파티션은 담당 노드가 lease 를 잡고 fencing token 을 올린 뒤에만 소유하며, 바뀐 재고는 write-behind 로 product.stock_quantity 에 반영된다.
+ */
+public interface ProductStockActor {
+
+    CompletableFuture<Result> decrease(Long productId, int quantity);
+
+    /**
+     * 차감했던 수량을 되돌린다. 호출 측 트랜잭션이 롤백되었을 때 사용한다.
+     */
+    void release(Long productId, int quantity);
+
+    /**
+     * 아직 반영하지 않은 재고 변경을 즉시 product.stock_quantity 에 반영한다.
+     */
+    void flush();
+
+    enum Result {
+        DECREASED,
+        INSUFFICIENT,
+        NOT_FOUND,
+        NOT_OWNER
+    }
+}
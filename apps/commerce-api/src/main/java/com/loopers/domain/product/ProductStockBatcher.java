@@ -0,0 +1,24 @@
+package com.loopers.domain.product;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 같은 상품의 재고 차감 요청을 짧은 시간 모아 한 트랜잭션, 한 번의 UPDATE 로 반영한다.
+ * 요청은 도착 순서(FIFO)대로 재고를 배정받고, 각 요청의 결과는 반영이 커밋된 뒤 future 로 전달된다.
+ */
+public interface ProductStockBatcher {
+
+    CompletableFuture<Result> decrease(Long productId, int quantity);
+
+    /**
+     * 이미 커밋된 차감을 되돌린다. 호출 측 트랜잭션이 롤백되었을 때 사용한다.
+     */
+    void restore(Long productId, int quantity);
+
+    enum Result {
+        DECREASED,
+        INSUFFICIENT,
+        NOT_FOUND,
+        BUSY // 결과를 기다리는 요청이 상한에 도달해 받지 않음
+    }
+}
@@ -0,0 +1,72 @@
+package com.loopers.domain.product;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+
+/**
+ * 재고 분할 모드 상품의 재고 일부를 담는 버킷.
+ * 한 상품의 재고를 여러 행으로 나누어, 동시 주문이 서로 다른 행을 잠그도록 한다.
+ */
+@Entity
+@Table(
+    name = "product_stock_bucket",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"productId", "bucketNo"})
+)
+@Getter
+public class ProductStockBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long productId;
+
+    private int bucketNo;
+
+    private int quantity;
+
+    protected ProductStockBucket() {
+    }
+
+    private ProductStockBucket(Long productId, int bucketNo, int quantity) {
+        this.productId = productId;
+        this.bucketNo = bucketNo;
+        this.quantity = quantity;
+    }
+
+    public static ProductStockBucket create(Long productId, int bucketNo, int quantity) {
+        if (productId == null) {
+            throw new CoreException(
+                ErrorType.BAD_REQUEST,
+                "Product ID는 필수입니다."
+            );
+        }
+
+        if (quantity < 0) {
+            throw new CoreException(
+                ErrorType.BAD_REQUEST,
+                "수량은 0 이상이어야 합니다."
+            );
+        }
+
+        return new ProductStockBucket(productId, bucketNo, quantity);
+    }
+
+    public void changeQuantity(int quantity) {
+        if (quantity < 0) {
+            throw new CoreException(
+                ErrorType.BAD_REQUEST,
+                "수량은 0 이상이어야 합니다."
+            );
+        }
+
+        this.quantity = quantity;
+    }
+}
@@ -0,0 +1,29 @@
+package com.loopers.domain.product;
+
+import java.util.List;
+
+public interface ProductStockBucketRepository {
+
+    List<ProductStockBucket> saveAll(List<ProductStockBucket> buckets);
+
+    /**
+     * 버킷 번호 오름차순으로 잠가서 조회한다.
+     */
+    List<ProductStockBucket> findAllByProductIdWithLock(Long productId);
+
+    /**
+     * 잠금 없이 수량이 quantity 이상인 버킷 번호를 조회한다.
+     */
+    List<Integer> findBucketNosWithQuantity(Long productId, int quantity);
+
+    /**
+     * 해당 버킷의 수량이 quantity 이상일 때만 차감한다. 차감된 행 수(0 또는 1)를 반환한다.
+     */
+    int decreaseIfAvailable(Long productId, int bucketNo, int quantity);
+
+    void increase(Long productId, int bucketNo, int quantity);
+
+    long sumQuantityByProductId(Long productId);
+
+    void deleteAllByProductId(Long productId);
+}
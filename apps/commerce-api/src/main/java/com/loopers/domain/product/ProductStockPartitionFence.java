@@ -0,0 +1,54 @@
+package com.loopers.domain.product;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+/**
+ * 재고 액터 파티션의 fencing token.
+ * 파티션을 넘겨받은 노드가 token 을 올리면, 이전 소유자가 들고 있던 token 으로는 재고 변경을 반영할 수 없다.
+ * released 는 이전 소유자가 변경을 모두 반영하고 소유권을 내려놓았는지를 나타낸다.
+ */
+@Entity
+@Table(name = "product_stock_partition_fence")
+@Getter
+public class ProductStockPartitionFence {
+
+    @Id
+    private Integer partitionNo;
+
+    private long fencingToken;
+
+    private boolean released;
+
+    protected ProductStockPartitionFence() {
+    }
+
+    private ProductStockPartitionFence(Integer partitionNo) {
+        this.partitionNo = partitionNo;
+        this.fencingToken = 0L;
+        this.released = true;
+    }
+
+    public static ProductStockPartitionFence create(int partitionNo) {
+        return new ProductStockPartitionFence(partitionNo);
+    }
+
+    /**
+     * token 을 올려 새 소유자가 되고, 올린 token 을 반환한다.
+     */
+    public long claim() {
+        this.fencingToken++;
+        this.released = false;
+        return fencingToken;
+    }
+
+    public boolean isHeldBy(long fencingToken) {
+        return this.fencingToken == fencingToken;
+    }
+
+    public void release() {
+        this.released = true;
+    }
+}
@@ -0,0 +1,15 @@
+package com.loopers.domain.product;
+
+import java.util.Optional;
+
+public interface ProductStockPartitionFenceRepository {
+
+    ProductStockPartitionFence save(ProductStockPartitionFence fence);
+
+    Optional<ProductStockPartitionFence> findByPartitionNo(int partitionNo);
+
+    /**
+     * 파티션의 fence 행을 잠가서 조회한다. 같은 파티션의 token 변경과 재고 반영이 서로 순서대로 일어나게 한다.
+     */
+    Optional<ProductStockPartitionFence> findByPartitionNoWithLock(int partitionNo);
+}
@@ -0,0 +1,35 @@
+package com.loopers.domain.product;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * DB 보다 앞단에서 재고를 선점하는 예약 저장소.
+ * 예약으로 바뀐 재고는 syncReservedStocks 로 product.stock_quantity 에 비동기 반영된다.
+ */
+public interface ProductStockReservation {
+
+    Result reserve(Long productId, int quantity);
+
+    void release(Long productId, int quantity);
+
+    /**
+     * 예약 재고가 없을 때만 DB 재고로 초기화한다.
+     */
+    void initialize(Long productId, int stockQuantity);
+
+    Optional<Integer> getStock(Long productId);
+
+    /**
+     * 예약/해제로 재고가 바뀐 상품 ID 를 최대 count 개 꺼낸다.
+     */
+    List<Long> popChanged(int count);
+
+    void markChanged(Long productId);
+
+    enum Result {
+        RESERVED,
+        INSUFFICIENT,
+        NOT_INITIALIZED
+    }
+}
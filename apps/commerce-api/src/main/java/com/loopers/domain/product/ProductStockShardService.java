@@ -0,0 +1,162 @@
+package com.loopers.domain.product;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 재고 분할 모드 상품의 재고를 여러 버킷 행으로 나누어 관리한다.
+ * 동시 주문이 서로 다른 버킷 행을 잠그므로, 한 상품의 처리량이 버킷 수에 비례해 늘어난다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductStockShardService {
+
+    private static final int MIN_BUCKET_COUNT = 2;
+
+    private final ProductRepository productRepository;
+    private final ProductStockBucketRepository productStockBucketRepository;
+
+    /**
+     * 현재 재고를 bucketCount 개 버킷에 고르게 나누고 재고 분할 모드로 전환한다.
+     */
+    @Transactional
+    public void enable(Long productId, int bucketCount) {
+        if (bucketCount < MIN_BUCKET_COUNT) {
+            throw new CoreException(
+                ErrorType.BAD_REQUEST,
+                "버킷 수는 " + MIN_BUCKET_COUNT + " 이상이어야 합니다."
+            );
+        }
+
+        Product product = getWithLock(productId);
+        product.enableStockSharding();
+
+        productStockBucketRepository.saveAll(
+            split(productId, product.getStockQuantity().getValue(), bucketCount)
+        );
+    }
+
+    /**
+     * 버킷 합계를 상품 재고로 되돌리고 버킷을 삭제한다.
+     */
+    @Transactional
+    public void disable(Long productId) {
+        Product product = getWithLock(productId);
+        int total = sum(productStockBucketRepository.findAllByProductIdWithLock(productId));
+
+        product.disableStockSharding(Quantity.of(total));
+        productStockBucketRepository.deleteAllByProductId(productId);
+    }
+
+    /**
+     * 수량이 충분한 버킷 중 하나를 무작위로 골라 조건부 UPDATE 로 차감한다.
+     * 충분한 버킷이 없거나 고른 버킷이 그 사이 소진되었으면, 전체 버킷을 번호 순서로 잠근 뒤 여러 버킷에서 나누어 차감한다.
+     * 이 경로는 버킷이 고르지 않을 때만 타며, 재분배 스케줄러가 그 빈도를 낮춘다.
+     * 호출 측 트랜잭션 안에서 실행되어야 한다.
+     */
+    public void decrease(Long productId, Quantity quantity) {
+        List<Integer> candidates = productStockBucketRepository.findBucketNosWithQuantity(productId, quantity.getValue());
+
+        if (!candidates.isEmpty()) {
+            int bucketNo = candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+            if (productStockBucketRepository.decreaseIfAvailable(productId, bucketNo, quantity.getValue()) > 0) {
+                return;
+            }
+        }
+
+        decreaseAcrossBuckets(productId, quantity.getValue());
+    }
+
+    /**
+     * 되돌리는 재고는 무작위 버킷 하나에 더한다. 치우친 수량은 재분배 스케줄러가 맞춘다.
+     */
+    public void increase(Long productId, Quantity quantity) {
+        List<Integer> bucketNos = productStockBucketRepository.findBucketNosWithQuantity(productId, 0);
+        if (bucketNos.isEmpty()) {
+            throw new CoreException(ErrorType.NOT_FOUND, "재고 버킷이 존재하지 않습니다.");
+        }
+
+        int bucketNo = bucketNos.get(ThreadLocalRandom.current().nextInt(bucketNos.size()));
+        productStockBucketRepository.increase(productId, bucketNo, quantity.getValue());
+    }
+
+    @Transactional(readOnly = true)
+    public Quantity getTotal(Long productId) {
+        return Quantity.of((int) productStockBucketRepository.sumQuantityByProductId(productId));
+    }
+
+    /**
+     * 버킷 간 수량을 다시 고르게 나누고, 합계를 product.stock_quantity 에 기록한다.
+     */
+    @Transactional
+    public void rebalance(Long productId) {
+        List<ProductStockBucket> buckets = productStockBucketRepository.findAllByProductIdWithLock(productId);
+        if (buckets.isEmpty()) {
+            return;
+        }
+
+        int total = sum(buckets);
+        int base = total / buckets.size();
+        int remainder = total % buckets.size();
+        for (int i = 0; i < buckets.size(); i++) {
+            buckets.get(i).changeQuantity(base + (i < remainder ? 1 : 0));
+        }
+
+        productRepository.updateStock(productId, total);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> getShardedProductIds() {
+        return productRepository.findAllStockShardedIds();
+    }
+
+    private void decreaseAcrossBuckets(Long productId, int quantity) {
+        List<ProductStockBucket> buckets = productStockBucketRepository.findAllByProductIdWithLock(productId);
+
+        if (sum(buckets) < quantity) {
+            throw new CoreException(
+                ErrorType.BAD_REQUEST,
+                "재고 수량이 부족합니다."
+            );
+        }
+
+        int remaining = quantity;
+        for (ProductStockBucket bucket : buckets) {
+            int taken = Math.min(bucket.getQuantity(), remaining);
+            bucket.changeQuantity(bucket.getQuantity() - taken);
+            remaining -= taken;
+
+            if (remaining == 0) {
+                return;
+            }
+        }
+    }
+
+    private Product getWithLock(Long productId) {
+        return productRepository.findByIdWithLock(productId)
+            .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품이 존재하지 않습니다."));
+    }
+
+    private List<ProductStockBucket> split(Long productId, int total, int bucketCount) {
+        int base = total / bucketCount;
+        int remainder = total % bucketCount;
+
+        List<ProductStockBucket> buckets = new ArrayList<>();
+        for (int bucketNo = 0; bucketNo < bucketCount; bucketNo++) {
+            buckets.add(ProductStockBucket.create(productId, bucketNo, base + (bucketNo < remainder ? 1 : 0)));
+        }
+        return buckets;
+    }
+
+    private int sum(List<ProductStockBucket> buckets) {
+        return buckets.stream()
+            .mapToInt(ProductStockBucket::getQuantity)
+            .sum();
+    }
+}
@@ -0,0 +1,32 @@
+package com.loopers.domain.product;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 목록 조회용 상품 스냅샷. 엔티티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 생성자 프로젝션으로 바로 담는다.
+ */
+public record ProductSummary(
+    Long id,
+    String name,
+    Money price,
+    Quantity stockQuantity,
+    Long brandId,
+    long likeCount,
+    LocalDateTime createdAt
+) {
+    /**
+     * QueryDSL Projections.constructor 용. 임베디드 값 타입은 컬럼 값으로 받아 감싼다.
+     */
+    public ProductSummary(
+        Long id,
+        String name,
+        BigDecimal price,
+        Integer stockQuantity,
+        Long brandId,
+        Long likeCount,
+        LocalDateTime createdAt
+    ) {
+        this(id, name, Money.of(price), Quantity.of(stockQuantity), brandId, likeCount, createdAt);
+    }
+}
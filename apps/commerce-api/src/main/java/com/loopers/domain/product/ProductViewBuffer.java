@@ -0,0 +1,24 @@
+package com.loopers.domain.product;
+
+import java.util.Map;
+
+/**
+ * 상품 상세 조회 이벤트를 요청 스레드에서 기다림 없이 모아 두는 버퍼.
+ */
+public interface ProductViewBuffer {
+
+    /**
+     * 버퍼가 가득 차 있으면 기다리지 않고 버리며 false 를 반환한다.
+     */
+    boolean offer(Long productId);
+
+    /**
+     * 최대 maxEvents 개의 이벤트를 꺼내 상품별 조회 수로 counts 에 더하고, 꺼낸 이벤트 수를 반환한다.
+     */
+    int drainTo(Map<Long, Long> counts, int maxEvents);
+
+    /**
+     * 마지막 호출 이후 버려진 이벤트 수를 반환하고 0 으로 초기화한다.
+     */
+    long takeDroppedCount();
+}
@@ -0,0 +1,14 @@
+package com.loopers.domain.product;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+public interface ProductViewCountRepository {
+
+    /**
+     * date 의 상품별 조회 수에 counts 를 더한다.
+     */
+    void increaseAll(Map<Long, Long> counts, LocalDate date);
+
+    long get(Long productId, LocalDate date);
+}
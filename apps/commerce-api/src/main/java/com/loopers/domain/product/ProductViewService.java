@@ -0,0 +1,52 @@
+package com.loopers.domain.product;
+
+import com.loopers.domain.ranking.RankingService;
+import com.loopers.domain.ranking.RankingSignal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 상품 상세 조회 수를 집계한다.
+ * 조회 경로에서는 버퍼에 넣기만 하고, 저장과 랭킹 반영은 백그라운드에서 상품별로 합산해 한 번에 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductViewService {
+
+    private final ProductViewBuffer productViewBuffer;
+    private final ProductViewCountRepository productViewCountRepository;
+    private final RankingService rankingService;
+
+    public void record(Long productId) {
+        productViewBuffer.offer(productId);
+    }
+
+    /**
+     * 버퍼에서 최대 batchSize 개의 조회 이벤트를 꺼내 상품별 조회 수와 랭킹에 반영하고, 꺼낸 이벤트 수를 반환한다.
+     */
+    public int flush(int batchSize) {
+        Map<Long, Long> counts = new HashMap<>();
+        int drained = productViewBuffer.drainTo(counts, batchSize);
+        if (drained == 0) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        productViewCountRepository.increaseAll(counts, now.toLocalDate());
+        rankingService.record(RankingSignal.VIEW, counts, now);
+
+        return drained;
+    }
+
+    public long takeDroppedCount() {
+        return productViewBuffer.takeDroppedCount();
+    }
+
+    public long getViewCount(Long productId, LocalDate date) {
+        return productViewCountRepository.get(productId, date);
+    }
+}
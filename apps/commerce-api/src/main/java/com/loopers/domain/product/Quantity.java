@@ -25,6 +25,10 @@ public class Quantity {
         return new Quantity(value);
     }
 
+    public Quantity add(Quantity other) {
+        return new Quantity(this.value + other.value);
+    }
+
     public Quantity subtract(Quantity other) {
         if (this.value < other.value) {
             throw new CoreException(
@@ -0,0 +1,38 @@
+package com.loopers.domain.product;
+
+public enum StockDecreaseMode {
+    /**
+     * 대상 상품 행 전체를 ID 순서로 SELECT ... FOR UPDATE 한 뒤 차감한다.
+     */
+    PESSIMISTIC_LOCK,
+
+    /**
+     * UPDATE ... WHERE stock_quantity >= ? 한 번으로 확인과 차감을 함께 처리한다.
+     */
+    CONDITIONAL_UPDATE,
+
+    /**
+     * Redis 예약 재고에서 먼저 차감하고, DB 재고는 동기화 스케줄러가 비동기로 맞춘다.
+     * 트랜잭션이 커밋되지 않으면 예약을 되돌린다. 주문이 몰리는 상품의 행 잠금 경합을 DB 에서 제거한다.
+     */
+    REDIS_RESERVATION,
+
+    /**
+     * 같은 상품의 차감 요청을 수 ms 동안 모아 한 트랜잭션, 한 번의 UPDATE 로 반영한다.
+     * 차감은 호출 측 트랜잭션과 별도로 커밋되며, 호출 측이 롤백되면 차감한 수량을 되돌린다.
+     */
+    GROUP_COMMIT,
+
+    /**
+     * 파티션별 단일 스레드가 소유한 메모리 카운터에서 잠금 없이 차감하고, DB 에는 write-behind 로 반영한다.
+     * 파티션 소유권은 Redis lease 로 정하며, 다른 노드가 소유한 상품의 요청은 거절한다.
+     */
+    INVENTORY_ACTOR;
+
+    /**
+     * 차감 시점에 product 행(또는 재고 버킷)을 직접 갱신하는 방식인지 여부.
+     */
+    public boolean updatesDatabase() {
+        return this != REDIS_RESERVATION && this != INVENTORY_ACTOR;
+    }
+}
@@ -0,0 +1,8 @@
+package com.loopers.domain.ranking;
+
+public record RankedProduct(
+    Long productId,
+    long rank, // 1 부터 시작
+    double score
+) {
+}
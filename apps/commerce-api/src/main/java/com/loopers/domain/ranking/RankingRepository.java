@@ -0,0 +1,22 @@
+package com.loopers.domain.ranking;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+public interface RankingRepository {
+
+    /**
+     * at 이 속한 모든 구간(시간별, 일별)의 랭킹에 상품별 점수를 더한다.
+     */
+    void incrementScores(Map<Long, Double> scores, LocalDateTime at);
+
+    List<RankedProduct> findRange(RankingWindow window, LocalDateTime at, long offset, int size);
+
+    long count(RankingWindow window, LocalDateTime at);
+
+    /**
+     * from 이 속한 구간의 점수에 weight 를 곱해 to 가 속한 구간에 더한다.
+     */
+    void carryOver(RankingWindow window, LocalDateTime from, LocalDateTime to, double weight);
+}
@@ -0,0 +1,77 @@
+package com.loopers.domain.ranking;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 조회/좋아요/주문 신호를 가중치를 곱한 점수로 시간별·일별 랭킹에 누적한다.
+ * 랭킹은 Redis 에만 있으며, 조회 시 likes 등 원본 테이블을 집계하지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RankingService {
+
+    private final RankingRepository rankingRepository;
+
+    @Value("${ranking.weight.view:0.1}")
+    private double viewWeight;
+
+    @Value("${ranking.weight.like:0.2}")
+    private double likeWeight;
+
+    @Value("${ranking.weight.order:0.7}")
+    private double orderWeight;
+
+    @Value("${ranking.carry-over.weight:0.1}")
+    private double carryOverWeight;
+
+    /**
+     * 상품별 신호 횟수를 점수로 환산해 누적한다. 좋아요 취소처럼 음수 횟수도 받는다.
+     */
+    public void record(RankingSignal signal, Map<Long, Long> counts, LocalDateTime at) {
+        if (counts.isEmpty()) {
+            return;
+        }
+
+        double weight = weightOf(signal);
+        Map<Long, Double> scores = counts.entrySet().stream()
+            .filter(entry -> entry.getValue() != 0)
+            .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue() * weight));
+
+        if (!scores.isEmpty()) {
+            rankingRepository.incrementScores(scores, at);
+        }
+    }
+
+    public void record(RankingSignal signal, Long productId, long count) {
+        record(signal, Map.of(productId, count), LocalDateTime.now());
+    }
+
+    public List<RankedProduct> getRanking(RankingWindow window, LocalDateTime at, int page, int size) {
+        return rankingRepository.findRange(window, at, (long) page * size, size);
+    }
+
+    public long count(RankingWindow window, LocalDateTime at) {
+        return rankingRepository.count(window, at);
+    }
+
+    /**
+     * 다음 구간이 빈 랭킹으로 시작하지 않도록 현재 구간 점수의 일부를 다음 구간에 미리 옮겨 둔다.
+     */
+    public void carryOverToNext(RankingWindow window, LocalDateTime now) {
+        rankingRepository.carryOver(window, now, window.nextOf(now), carryOverWeight);
+    }
+
+    private double weightOf(RankingSignal signal) {
+        return switch (signal) {
+            case VIEW -> viewWeight;
+            case LIKE -> likeWeight;
+            case ORDER -> orderWeight;
+        };
+    }
+}
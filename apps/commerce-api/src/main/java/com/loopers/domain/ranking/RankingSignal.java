@@ -0,0 +1,10 @@
+package com.loopers.domain.ranking;
+
+/**
+ * 랭킹 점수에 반영되는 사용자 행동. 신호별 가중치는 설정으로 조정한다.
+ */
+public enum RankingSignal {
+    VIEW,
+    LIKE,
+    ORDER
+}
@@ -0,0 +1,52 @@
+package com.loopers.domain.ranking;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 랭킹을 집계하는 시간 구간. 같은 구간에 들어온 신호가 하나의 랭킹으로 합산된다.
+ */
+public enum RankingWindow {
+    HOURLY("hourly", ChronoUnit.HOURS),
+    DAILY("daily", ChronoUnit.DAYS);
+
+    private final String code;
+    private final ChronoUnit unit;
+
+    RankingWindow(String code, ChronoUnit unit) {
+        this.code = code;
+        this.unit = unit;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * at 이 속한 구간의 시작 시각.
+     */
+    public LocalDateTime startOf(LocalDateTime at) {
+        return at.truncatedTo(unit);
+    }
+
+    /**
+     * at 이 속한 구간 바로 다음 구간의 시작 시각.
+     */
+    public LocalDateTime nextOf(LocalDateTime at) {
+        return startOf(at).plus(1, unit);
+    }
+
+    public static RankingWindow fromCode(String code) {
+        if (code == null) {
+            return DAILY;
+        }
+
+        for (RankingWindow window : values()) {
+            if (window.code.equals(code)) {
+                return window;
+            }
+        }
+
+        return DAILY;
+    }
+}
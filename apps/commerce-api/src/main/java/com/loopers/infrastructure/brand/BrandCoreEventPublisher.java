@@ -0,0 +1,24 @@
+package com.loopers.infrastructure.brand;
+
+import com.loopers.domain.brand.BrandEvent;
+import com.loopers.domain.brand.BrandEventPublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class BrandCoreEventPublisher implements BrandEventPublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public void publish(BrandEvent.Created event) {
+        applicationEventPublisher.publishEvent(event);
+    }
+
+    @Override
+    public void publish(BrandEvent.Updated event) {
+        applicationEventPublisher.publishEvent(event);
+    }
+}
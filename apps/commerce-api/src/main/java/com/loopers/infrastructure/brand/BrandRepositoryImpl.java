@@ -2,6 +2,8 @@ package com.loopers.infrastructure.brand;
 
 import com.loopers.domain.brand.Brand;
 import com.loopers.domain.brand.BrandRepository;
+import java.util.Collection;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -21,6 +23,16 @@ public class BrandRepositoryImpl implements BrandRepository {
         return brandJpaRepository.findById(brandId).orElse(null);
     }
 
+    @Override
+    public List<Brand> findAllByIds(Collection<Long> brandIds) {
+        return brandJpaRepository.findAllById(brandIds);
+    }
+
+    @Override
+    public List<Brand> findAll() {
+        return brandJpaRepository.findAll();
+    }
+
     @Override
     public Brand save(Brand brand) {
         return brandJpaRepository.save(brand);
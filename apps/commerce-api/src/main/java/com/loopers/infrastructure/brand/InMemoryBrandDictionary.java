@@ -0,0 +1,144 @@
+package com.loopers.infrastructure.brand;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandDictionary;
+import com.loopers.domain.brand.BrandRepository;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 브랜드 전체를 불변 Map 으로 보관하고, 변경 시 새 Map 으로 교체한다. (copy-on-write)
+ *
+ * <p>인스턴스 간 수렴은 Redis 의 버전 번호와 변경 기록으로 맞춘다.
+ * <ul>
+ *     <li>brand:dictionary:version - 변경이 기록될 때마다 1 씩 증가한다.</li>
+ *     <li>brand:dictionary:changes - 브랜드 ID 별 마지막 변경 버전 (Sorted Set). 브랜드 수 이상으로 커지지 않는다.</li>
+ * </ul>
+ * 각 인스턴스는 마지막으로 반영한 버전 이후의 변경만 다시 읽는다.
+ * Redis 가 초기화되어 버전이 되돌아간 경우에는 전체를 다시 적재한다.
+ */
+@Slf4j
+@Component
+public class InMemoryBrandDictionary implements BrandDictionary {
+
+    private static final String VERSION_KEY = "brand:dictionary:version";
+    private static final String CHANGES_KEY = "brand:dictionary:changes";
+    private static final RedisScript<Long> RECORD_CHANGE = new DefaultRedisScript<>(
+        """
+        local version = redis.call('INCR', KEYS[1])
+        redis.call('ZADD', KEYS[2], version, ARGV[1])
+        return version
+        """,
+        Long.class
+    );
+
+    private final BrandRepository brandRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisTemplate<String, String> masterRedisTemplate;
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), 0L);
+
+    public InMemoryBrandDictionary(
+        BrandRepository brandRepository,
+        RedisTemplate<String, String> redisTemplate,
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate
+    ) {
+        this.brandRepository = brandRepository;
+        this.redisTemplate = redisTemplate;
+        this.masterRedisTemplate = masterRedisTemplate;
+    }
+
+    @Override
+    public Optional<Brand> get(Long brandId) {
+        return Optional.ofNullable(snapshot.brands().get(brandId));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reload() {
+        long version = remoteVersion().orElse(0L);
+        Map<Long, Brand> brands = brandRepository.findAll().stream()
+            .collect(Collectors.toUnmodifiableMap(Brand::getId, Function.identity()));
+
+        snapshot = new Snapshot(brands, version);
+        log.info("브랜드 사전 적재 완료. size: {}, version: {}", brands.size(), version);
+    }
+
+    @Override
+    public synchronized void refresh(Long brandId) {
+        try {
+            masterRedisTemplate.execute(RECORD_CHANGE, List.of(VERSION_KEY, CHANGES_KEY), String.valueOf(brandId));
+        } catch (RuntimeException e) {
+            log.warn("브랜드 변경 기록 실패. 다른 인스턴스는 전체 재적재 전까지 반영하지 못한다. brandId: {}", brandId, e);
+        }
+
+        apply(List.of(brandId), snapshot.version());
+    }
+
+    @Override
+    public synchronized void sync() {
+        Optional<Long> remoteVersion = remoteVersion();
+        if (remoteVersion.isEmpty()) {
+            return;
+        }
+
+        long localVersion = snapshot.version();
+        long version = remoteVersion.get();
+        if (version == localVersion) {
+            return;
+        }
+
+        if (version < localVersion) {
+            reload();
+            return;
+        }
+
+        try {
+            Set<String> changed = redisTemplate.opsForZSet().rangeByScore(CHANGES_KEY, localVersion + 1, version);
+            List<Long> brandIds = changed == null
+                ? List.of()
+                : changed.stream().map(Long::valueOf).toList();
+
+            apply(brandIds, version);
+        } catch (RuntimeException e) {
+            log.warn("브랜드 변경 목록 조회 실패. localVersion: {}, remoteVersion: {}", localVersion, version, e);
+        }
+    }
+
+    private void apply(Collection<Long> brandIds, long version) {
+        Map<Long, Brand> brands = new HashMap<>(snapshot.brands());
+        if (!brandIds.isEmpty()) {
+            brandRepository.findAllByIds(brandIds)
+                .forEach(brand -> brands.put(brand.getId(), brand));
+        }
+
+        snapshot = new Snapshot(Map.copyOf(brands), version);
+    }
+
+    private Optional<Long> remoteVersion() {
+        try {
+            String version = redisTemplate.opsForValue().get(VERSION_KEY);
+            return Optional.of(version == null ? 0L : Long.parseLong(version));
+        } catch (RuntimeException e) {
+            log.warn("브랜드 사전 버전 조회 실패", e);
+            return Optional.empty();
+        }
+    }
+
+    private record Snapshot(Map<Long, Brand> brands, long version) {
+    }
+}
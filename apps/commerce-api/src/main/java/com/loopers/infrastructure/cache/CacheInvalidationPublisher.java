@@ -0,0 +1,35 @@
+package com.loopers.infrastructure.cache;
+
+import com.loopers.config.redis.RedisConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 캐시(L1) 무효화 메시지를 Redis 채널로 발행한다.
+ * 메시지는 "{캐시 이름}|{키}" 형식이며, 모든 인스턴스가 구독하여 자신의 L1 에서 해당 키를 제거한다.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationPublisher {
+
+    public static final String CHANNEL = "cache:invalidation";
+    static final String DELIMITER = "|";
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+
+    public CacheInvalidationPublisher(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate
+    ) {
+        this.masterRedisTemplate = masterRedisTemplate;
+    }
+
+    public void publish(String cacheName, String key) {
+        try {
+            masterRedisTemplate.convertAndSend(CHANNEL, cacheName + DELIMITER + key);
+        } catch (RuntimeException e) {
+            log.warn("캐시 무효화 메시지 발행 실패. cache: {}, key: {}", cacheName, key, e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.loopers.infrastructure.cache;
+
+import com.loopers.config.redis.RedisConfig;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 집계 결과(count)를 Redis 에 보관한다.
+ * 조회는 replica 우선 템플릿으로, 쓰기는 master 템플릿으로 수행한다.
+ * Redis 장애 시에는 캐시 미스로 취급하여 원본 집계로 대체되도록 한다.
+ */
+@Slf4j
+@Component
+public class RedisCountStore {
+
+    private static final RedisScript<Long> INCREMENT_IF_PRESENT = new DefaultRedisScript<>(
+        """
+        if redis.call('EXISTS', KEYS[1]) == 1 then
+            return redis.call('INCRBY', KEYS[1], ARGV[1])
+        end
+        return nil
+        """,
+        Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisTemplate<String, String> masterRedisTemplate;
+
+    public RedisCountStore(
+        RedisTemplate<String, String> redisTemplate,
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.masterRedisTemplate = masterRedisTemplate;
+    }
+
+    public Optional<Long> get(String key) {
+        try {
+            return Optional.ofNullable(redisTemplate.opsForValue().get(key))
+                .map(Long::parseLong);
+        } catch (RuntimeException e) {
+            log.warn("count 캐시 조회 실패. key: {}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    public void put(String key, long count, Duration ttl) {
+        try {
+            masterRedisTemplate.opsForValue().set(key, String.valueOf(count), ttl);
+        } catch (RuntimeException e) {
+            log.warn("count 캐시 저장 실패. key: {}", key, e);
+        }
+    }
+
+    /**
+     * 키가 존재할 때만 원자적으로 증감한다. 만료된 키가 부분 값으로 되살아나지 않도록 Lua 스크립트로 처리한다.
+     */
+    public void incrementIfPresent(String key, long delta) {
+        try {
+            masterRedisTemplate.execute(INCREMENT_IF_PRESENT, List.of(key), String.valueOf(delta));
+        } catch (RuntimeException e) {
+            log.warn("count 캐시 증감 실패. 캐시를 제거합니다. key: {}", key, e);
+            evict(key);
+        }
+    }
+
+    public void evict(String key) {
+        try {
+            masterRedisTemplate.delete(key);
+        } catch (RuntimeException e) {
+            log.warn("count 캐시 제거 실패. key: {}", key, e);
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package com.loopers.infrastructure.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * 인스턴스 로컬 캐시(L1, Caffeine)와 Redis(L2)를 순서대로 조회하는 2단계 캐시.
+ * L2 에서 찾은 값은 L1 에 다시 채워 넣고, 제거 시에는 L1/L2 를 모두 지운 뒤
+ * 무효화 메시지를 발행하여 다른 인스턴스의 L1 도 함께 제거되도록 한다.
+ * Redis 장애 시에는 L2 미스로 취급한다.
+ *
+ * <p>{@link #get(String, Supplier)} 는 캐시 스탬피드를 다음과 같이 막는다.
+ * <ul>
+ *     <li>같은 인스턴스에서 같은 키의 미스는 하나의 적재 작업을 함께 기다린다. (single-flight)</li>
+ *     <li>L2 값은 논리 만료 이후에도 staleTtl 동안 남겨 두고, Redis 리스를 획득한 한 인스턴스만 다시 적재한다.
+ *     리스를 얻지 못한 인스턴스는 만료된 값을 그대로 응답한다. (stale-while-revalidate)</li>
+ *     <li>논리 만료 전이라도 직전 적재 시간에 비례한 확률로 미리 다시 적재하여 만료 시점이 몰리지 않게 한다.</li>
+ * </ul>
+ */
+@Slf4j
+public class TwoLevelCache<V> {
+
+    private static final String LEASE_KEY_PREFIX = "lease:";
+    private static final long LEASE_POLL_INTERVAL_MILLIS = 50L;
+    private static final RedisScript<Long> RELEASE_LEASE = new DefaultRedisScript<>(
+        """
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+            return redis.call('DEL', KEYS[1])
+        end
+        return 0
+        """,
+        Long.class
+    );
+
+    private final String name;
+    private final Class<V> type;
+    private final Cache<String, V> localCache;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final TwoLevelCacheManager.StampedeProperties stampede;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final Counter remoteHitCounter;
+    private final Counter remoteMissCounter;
+    private final Counter remoteEvictionCounter;
+    private final Counter staleServedCounter;
+    private final ConcurrentMap<String, CompletableFuture<V>> loadings = new ConcurrentHashMap<>();
+
+    TwoLevelCache(
+        String name,
+        Class<V> type,
+        Cache<String, V> localCache,
+        RedisTemplate<String, String> redisTemplate,
+        RedisTemplate<String, String> masterRedisTemplate,
+        ObjectMapper objectMapper,
+        Duration ttl,
+        TwoLevelCacheManager.StampedeProperties stampede,
+        CacheInvalidationPublisher invalidationPublisher,
+        Counter remoteHitCounter,
+        Counter remoteMissCounter,
+        Counter remoteEvictionCounter,
+        Counter staleServedCounter
+    ) {
+        this.name = name;
+        this.type = type;
+        this.localCache = localCache;
+        this.redisTemplate = redisTemplate;
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.stampede = stampede;
+        this.invalidationPublisher = invalidationPublisher;
+        this.remoteHitCounter = remoteHitCounter;
+        this.remoteMissCounter = remoteMissCounter;
+        this.remoteEvictionCounter = remoteEvictionCounter;
+        this.staleServedCounter = staleServedCounter;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 만료되지 않은 값이 L1 또는 L2 에 있을 때만 반환한다. 적재는 하지 않는다.
+     */
+    public Optional<V> get(String key) {
+        V local = localCache.getIfPresent(key);
+        if (local != null) {
+            return Optional.of(local);
+        }
+
+        Optional<V> remote = getRemote(key)
+            .filter(entry -> !entry.isExpired(System.currentTimeMillis()))
+            .map(CachedEntry::value);
+        remote.ifPresent(value -> localCache.put(key, value));
+        return remote;
+    }
+
+    /**
+     * 캐시에서 값을 조회하고, 없거나 다시 적재할 시점이면 loader 로 적재한다.
+     * loader 가 던진 예외는 같은 키를 기다리던 모든 호출자에게 그대로 전달된다.
+     */
+    public V get(String key, Supplier<V> loader) {
+        V local = localCache.getIfPresent(key);
+        if (local != null) {
+            return local;
+        }
+
+        CompletableFuture<V> loading = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = loadings.putIfAbsent(key, loading);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+
+        try {
+            V value = loadThrough(key, loader);
+            localCache.put(key, value);
+            loading.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            loadings.remove(key, loading);
+        }
+    }
+
+    public void put(String key, V value) {
+        localCache.put(key, value);
+        putRemote(key, value, 0L);
+    }
+
+    public void evict(String key) {
+        localCache.invalidate(key);
+
+        try {
+            if (Boolean.TRUE.equals(masterRedisTemplate.delete(redisKey(key)))) {
+                remoteEvictionCounter.increment();
+            }
+        } catch (RuntimeException e) {
+            log.warn("캐시 제거 실패. cache: {}, key: {}", name, key, e);
+        }
+
+        invalidationPublisher.publish(name, key);
+    }
+
+    void evictLocal(String key) {
+        localCache.invalidate(key);
+    }
+
+    void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    private V loadThrough(String key, Supplier<V> loader) {
+        Optional<CachedEntry<V>> remote = getRemote(key);
+        long now = System.currentTimeMillis();
+        if (remote.isPresent() && !remote.get().shouldRefresh(now, stampede.earlyRefreshBeta())) {
+            return remote.get().value();
+        }
+
+        Optional<String> lease = acquireLease(key);
+        if (lease.isEmpty()) {
+            if (remote.isPresent()) {
+                staleServedCounter.increment();
+                return remote.get().value();
+            }
+            return awaitRemote(key).orElseGet(() -> load(key, loader));
+        }
+
+        try {
+            return load(key, loader);
+        } finally {
+            releaseLease(key, lease.get());
+        }
+    }
+
+    private V load(String key, Supplier<V> loader) {
+        long startedAt = System.nanoTime();
+        V value = loader.get();
+        putRemote(key, value, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        return value;
+    }
+
+    /**
+     * 다른 인스턴스가 리스를 잡고 적재 중일 때, 리스 만료 시간까지 L2 에 값이 채워지기를 기다린다.
+     */
+    private Optional<V> awaitRemote(String key) {
+        long deadline = System.currentTimeMillis() + stampede.leaseTimeout().toMillis();
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(LEASE_POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            }
+
+            Optional<CachedEntry<V>> remote = getRemote(key);
+            if (remote.isPresent()) {
+                return remote.map(CachedEntry::value);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Redis 장애로 리스를 확인할 수 없으면 각 인스턴스가 직접 적재하도록 리스를 얻은 것으로 취급한다.
+     */
+    private Optional<String> acquireLease(String key) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = masterRedisTemplate.opsForValue()
+                .setIfAbsent(leaseKey(key), token, stampede.leaseTimeout());
+            return Boolean.TRUE.equals(acquired) ? Optional.of(token) : Optional.empty();
+        } catch (RuntimeException e) {
+            log.warn("캐시 적재 리스 획득 실패. cache: {}, key: {}", name, key, e);
+            return Optional.of(token);
+        }
+    }
+
+    private void releaseLease(String key, String token) {
+        try {
+            masterRedisTemplate.execute(RELEASE_LEASE, List.of(leaseKey(key)), token);
+        } catch (RuntimeException e) {
+            log.warn("캐시 적재 리스 해제 실패. cache: {}, key: {}", name, key, e);
+        }
+    }
+
+    private Optional<CachedEntry<V>> getRemote(String key) {
+        try {
+            String cached = redisTemplate.opsForValue().get(redisKey(key));
+            if (cached == null) {
+                remoteMissCounter.increment();
+                return Optional.empty();
+            }
+
+            remoteHitCounter.increment();
+            RemoteEntry entry = objectMapper.readValue(cached, RemoteEntry.class);
+            return Optional.of(new CachedEntry<>(
+                objectMapper.readValue(entry.value(), type),
+                entry.expireAt(),
+                entry.loadMillis()
+            ));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("캐시 조회 실패. cache: {}, key: {}", name, key, e);
+            remoteMissCounter.increment();
+            return Optional.empty();
+        }
+    }
+
+    private void putRemote(String key, V value, long loadMillis) {
+        try {
+            RemoteEntry entry = new RemoteEntry(
+                objectMapper.writeValueAsString(value),
+                System.currentTimeMillis() + ttl.toMillis(),
+                loadMillis
+            );
+            masterRedisTemplate.opsForValue().set(
+                redisKey(key),
+                objectMapper.writeValueAsString(entry),
+                ttl.plus(stampede.staleTtl())
+            );
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("캐시 저장 실패. cache: {}, key: {}", name, key, e);
+        }
+    }
+
+    private V await(CompletableFuture<V> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private String redisKey(String key) {
+        return name + ":" + key;
+    }
+
+    private String leaseKey(String key) {
+        return LEASE_KEY_PREFIX + redisKey(key);
+    }
+
+    /**
+     * Redis 에 저장되는 형태. expireAt 은 논리 만료 시각이며, 실제 키는 staleTtl 만큼 더 남아 있다.
+     */
+    record RemoteEntry(String value, long expireAt, long loadMillis) {
+    }
+
+    private record CachedEntry<V>(V value, long expireAt, long loadMillis) {
+
+        boolean isExpired(long now) {
+            return now >= expireAt;
+        }
+
+        /**
+         * 확률적 조기 갱신(XFetch). 적재가 오래 걸린 값일수록, 만료가 가까울수록 먼저 갱신될 확률이 높다.
+         */
+        boolean shouldRefresh(long now, double beta) {
+            double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+            return now - loadMillis * beta * Math.log(random) >= expireAt;
+        }
+    }
+}
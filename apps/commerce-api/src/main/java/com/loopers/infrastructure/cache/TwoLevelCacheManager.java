@@ -0,0 +1,141 @@
+package com.loopers.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.config.redis.RedisConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 2단계 캐시를 생성하고, 무효화 채널을 구독하여 수신한 키를 해당 캐시의 L1 에서 제거한다.
+ * 단계별 지표는 level 태그(l1, l2)로 구분한다.
+ * <ul>
+ *     <li>L1: cache.gets(result=hit|miss), cache.evictions, cache.size (Caffeine 통계)</li>
+ *     <li>L2: cache.remote.gets(result=hit|miss), cache.remote.evictions, cache.remote.stale (만료 값 응답 수)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class TwoLevelCacheManager implements MessageListener {
+
+    private final Map<String, TwoLevelCache<?>> caches = new ConcurrentHashMap<>();
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final StampedeProperties stampede;
+
+    public TwoLevelCacheManager(
+        RedisTemplate<String, String> redisTemplate,
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        CacheInvalidationPublisher invalidationPublisher,
+        RedisMessageListenerContainer listenerContainer,
+        @Value("${cache.stampede.stale-ttl:1m}") Duration staleTtl,
+        @Value("${cache.stampede.lease-timeout:3s}") Duration leaseTimeout,
+        @Value("${cache.stampede.early-refresh-beta:1.0}") double earlyRefreshBeta
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.invalidationPublisher = invalidationPublisher;
+        this.stampede = new StampedeProperties(staleTtl, leaseTimeout, earlyRefreshBeta);
+        listenerContainer.addMessageListener(this, new ChannelTopic(CacheInvalidationPublisher.CHANNEL));
+    }
+
+    public <V> TwoLevelCache<V> create(
+        String name,
+        Class<V> type,
+        long localMaxSize,
+        Duration localTtl,
+        Duration remoteTtl
+    ) {
+        Cache<String, V> localCache = Caffeine.newBuilder()
+            .maximumSize(localMaxSize)
+            .expireAfterWrite(localTtl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, name, "level", "l1");
+
+        TwoLevelCache<V> cache = new TwoLevelCache<>(
+            name,
+            type,
+            localCache,
+            redisTemplate,
+            masterRedisTemplate,
+            objectMapper,
+            remoteTtl,
+            stampede,
+            invalidationPublisher,
+            remoteCounter("cache.remote.gets", name, "hit"),
+            remoteCounter("cache.remote.gets", name, "miss"),
+            Counter.builder("cache.remote.evictions")
+                .tag("cache", name)
+                .tag("level", "l2")
+                .register(meterRegistry),
+            Counter.builder("cache.remote.stale")
+                .tag("cache", name)
+                .tag("level", "l2")
+                .register(meterRegistry)
+        );
+        caches.put(name, cache);
+        return cache;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int index = body.indexOf(CacheInvalidationPublisher.DELIMITER);
+        if (index < 0) {
+            log.warn("잘못된 캐시 무효화 메시지. message: {}", body);
+            return;
+        }
+
+        TwoLevelCache<?> cache = caches.get(body.substring(0, index));
+        if (cache != null) {
+            cache.evictLocal(body.substring(index + 1));
+        }
+    }
+
+    /**
+     * 모든 캐시의 L1 을 비운다. 데이터 초기화 이후처럼 L1 에 남은 값을 신뢰할 수 없을 때 사용한다.
+     */
+    public void clearLocal() {
+        caches.values().forEach(TwoLevelCache::clearLocal);
+    }
+
+    /**
+     * @param staleTtl         논리 만료 이후 L2 에 값을 남겨 두어 재적재 중 응답할 수 있는 시간
+     * @param leaseTimeout     한 인스턴스가 재적재 권한을 가지는 최대 시간
+     * @param earlyRefreshBeta 확률적 조기 갱신 강도 (0 이면 조기 갱신하지 않음)
+     */
+    record StampedeProperties(Duration staleTtl, Duration leaseTimeout, double earlyRefreshBeta) {
+    }
+
+    private Counter remoteCounter(String metricName, String cacheName, String result) {
+        return Counter.builder(metricName)
+            .tag("cache", cacheName)
+            .tag("level", "l2")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,44 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.domain.like.LikeCountCache;
+import com.loopers.infrastructure.cache.RedisCountStore;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LikeCountRedisCache implements LikeCountCache {
+
+    private static final String USER_LIKE_COUNT_KEY_PREFIX = "like:count:user:";
+
+    private final RedisCountStore redisCountStore;
+    private final Duration ttl;
+
+    public LikeCountRedisCache(
+        RedisCountStore redisCountStore,
+        @Value("${cache.count.ttl:30s}") Duration ttl
+    ) {
+        this.redisCountStore = redisCountStore;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public Optional<Long> getUserLikeCount(String userId) {
+        return redisCountStore.get(userKey(userId));
+    }
+
+    @Override
+    public void putUserLikeCount(String userId, long count) {
+        redisCountStore.put(userKey(userId), count, ttl);
+    }
+
+    @Override
+    public void increaseUserLikeCount(String userId, long delta) {
+        redisCountStore.incrementIfPresent(userKey(userId), delta);
+    }
+
+    private String userKey(String userId) {
+        return USER_LIKE_COUNT_KEY_PREFIX + userId;
+    }
+}
@@ -1,11 +1,15 @@
 package com.loopers.infrastructure.like;
 
 import com.loopers.domain.like.Like;
+import com.loopers.domain.like.ProductLikeCount;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -13,7 +17,20 @@ public interface LikeJpaRepository extends JpaRepository<Like, Long> {
 
     Optional<Like> findByUserIdAndProductId(String userId, Long productId);
 
-    void deleteByUserIdAndProductId(String userId, Long productId);
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO likes (user_id, product_id, created_at)
+        VALUES (:userId, :productId, :createdAt)
+        """, nativeQuery = true)
+    int insertIgnore(
+        @Param("userId") String userId,
+        @Param("productId") Long productId,
+        @Param("createdAt") LocalDateTime createdAt
+    );
+
+    @Modifying
+    @Query(value = "DELETE FROM likes WHERE user_id = :userId AND product_id = :productId", nativeQuery = true)
+    int deleteByUserIdAndProductId(@Param("userId") String userId, @Param("productId") Long productId);
 
     boolean existsByUserIdAndProductId(String userId, Long productId);
 
@@ -23,6 +40,20 @@ public interface LikeJpaRepository extends JpaRepository<Like, Long> {
 
     long countByUserId(String userId);
 
+    @Query("""
+        SELECT new com.loopers.domain.like.ProductLikeCount(l.productId, COUNT(l))
+        FROM Like l
+        WHERE l.productId IN :productIds
+        GROUP BY l.productId
+        """)
+    List<ProductLikeCount> countByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    @Query("SELECT l FROM Like l WHERE l.userId IN :userIds AND l.productId IN :productIds")
+    List<Like> findAllByUserIdsAndProductIds(
+        @Param("userIds") Collection<String> userIds,
+        @Param("productIds") Collection<Long> productIds
+    );
+
     @Query("SELECT l FROM Like l WHERE l.userId = :userId ORDER BY l.createdAt DESC")
     Page<Like> findLikesByUserIdOrderByCreatedAt(@Param("userId") String userId, Pageable pageable);
 }
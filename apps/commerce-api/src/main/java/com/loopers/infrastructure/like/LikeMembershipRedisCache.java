@@ -0,0 +1,177 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.like.LikeMembershipCache;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 좋아요 상품 ID 를 like:members:user:{userId} 집합에 보관한다.
+ * 좋아요가 하나도 없는 사용자도 적재 여부를 알 수 있도록 상품 ID 로 쓰이지 않는 LOADED 멤버를 함께 넣고,
+ * 조회할 상품 ID 와 LOADED 를 SMISMEMBER 한 번으로 확인한다.
+ * 좋아요/취소 직후 목록에서 바로 반영되어야 하므로 읽기와 쓰기 모두 master 에서 수행한다.
+ * Redis 장애 시에는 적재되지 않은 것으로 취급하여 likes 테이블 조회로 대체되도록 한다.
+ *
+ * 적재는 likes 테이블을 읽은 뒤에 이루어지므로, 그 사이 커밋된 좋아요/취소가 집합이 없어 버려지면
+ * 적재된 스냅샷이 TTL 동안 틀린 채로 남는다. 이를 막기 위해 집합이 없을 때의 좋아요/취소는
+ * like:members:stale:user:{userId} 표시를 짧게 남기고, 적재는 표시가 있거나 집합이 이미 있으면 하지 않는다.
+ */
+@Slf4j
+@Component
+public class LikeMembershipRedisCache implements LikeMembershipCache {
+
+    private static final String KEY_PREFIX = "like:members:user:";
+    private static final String STALE_KEY_PREFIX = "like:members:stale:user:";
+    private static final String LOADED = "0";
+
+    // KEYS[1] = 집합, KEYS[2] = 변경 표시
+    private static final RedisScript<Long> LOAD = new DefaultRedisScript<>(
+        """
+        if redis.call('EXISTS', KEYS[1]) == 1 or redis.call('EXISTS', KEYS[2]) == 1 then
+            return 0
+        end
+        for i = 2, #ARGV, 1000 do
+            redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV)))
+        end
+        redis.call('PEXPIRE', KEYS[1], ARGV[1])
+        return 1
+        """,
+        Long.class
+    );
+
+    // KEYS[1] = 집합, KEYS[2] = 변경 표시, ARGV[1] = 상품 ID, ARGV[2] = 변경 표시 TTL(ms)
+    private static final RedisScript<Long> ADD_OR_MARK = new DefaultRedisScript<>(
+        """
+        if redis.call('EXISTS', KEYS[1]) == 1 then
+            return redis.call('SADD', KEYS[1], ARGV[1])
+        end
+        redis.call('SET', KEYS[2], '1', 'PX', ARGV[2])
+        return 0
+        """,
+        Long.class
+    );
+
+    private static final RedisScript<Long> REMOVE_OR_MARK = new DefaultRedisScript<>(
+        """
+        if redis.call('EXISTS', KEYS[1]) == 1 then
+            return redis.call('SREM', KEYS[1], ARGV[1])
+        end
+        redis.call('SET', KEYS[2], '1', 'PX', ARGV[2])
+        return 0
+        """,
+        Long.class
+    );
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final Duration ttl;
+    private final Duration staleTtl;
+
+    public LikeMembershipRedisCache(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+        @Value("${cache.like-membership.ttl:1h}") Duration ttl,
+        @Value("${cache.like-membership.stale-ttl:5s}") Duration staleTtl
+    ) {
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.ttl = ttl;
+        this.staleTtl = staleTtl;
+    }
+
+    @Override
+    public Optional<Set<Long>> findLikedAmong(String userId, Collection<Long> productIds) {
+        List<Object> members = new ArrayList<>(productIds.size() + 1);
+        members.add(LOADED);
+        productIds.forEach(productId -> members.add(String.valueOf(productId)));
+
+        try {
+            Map<Object, Boolean> result = masterRedisTemplate.opsForSet().isMember(key(userId), members.toArray());
+            if (result == null || !Boolean.TRUE.equals(result.get(LOADED))) {
+                return Optional.empty();
+            }
+
+            return Optional.of(productIds.stream()
+                .filter(productId -> Boolean.TRUE.equals(result.get(String.valueOf(productId))))
+                .collect(Collectors.toSet()));
+        } catch (RuntimeException e) {
+            log.warn("좋아요 집합 조회 실패. userId: {}", userId, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void load(String userId, Collection<Long> likedProductIds) {
+        List<String> args = new ArrayList<>(likedProductIds.size() + 2);
+        args.add(String.valueOf(ttl.toMillis()));
+        args.add(LOADED);
+        likedProductIds.forEach(productId -> args.add(String.valueOf(productId)));
+
+        try {
+            masterRedisTemplate.execute(LOAD, List.of(key(userId), staleKey(userId)), args.toArray());
+        } catch (RuntimeException e) {
+            log.warn("좋아요 집합 적재 실패. userId: {}", userId, e);
+        }
+    }
+
+    @Override
+    public void add(String userId, Long productId) {
+        try {
+            masterRedisTemplate.execute(
+                ADD_OR_MARK,
+                List.of(key(userId), staleKey(userId)),
+                String.valueOf(productId),
+                String.valueOf(staleTtl.toMillis())
+            );
+        } catch (RuntimeException e) {
+            log.warn("좋아요 집합 반영 실패. 집합을 제거합니다. userId: {}", userId, e);
+            evict(userId);
+        }
+    }
+
+    @Override
+    public void remove(String userId, Long productId) {
+        try {
+            masterRedisTemplate.execute(
+                REMOVE_OR_MARK,
+                List.of(key(userId), staleKey(userId)),
+                String.valueOf(productId),
+                String.valueOf(staleTtl.toMillis())
+            );
+        } catch (RuntimeException e) {
+            log.warn("좋아요 집합 반영 실패. 집합을 제거합니다. userId: {}", userId, e);
+            evict(userId);
+        }
+    }
+
+    /**
+     * 제거 직전에 읽은 목록으로 다시 적재되지 않도록 변경 표시를 먼저 남긴다.
+     */
+    @Override
+    public void evict(String userId) {
+        try {
+            masterRedisTemplate.opsForValue().set(staleKey(userId), "1", staleTtl);
+            masterRedisTemplate.delete(key(userId));
+        } catch (RuntimeException e) {
+            log.warn("좋아요 집합 제거 실패. userId: {}", userId, e);
+        }
+    }
+
+    private String key(String userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private String staleKey(String userId) {
+        return STALE_KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,132 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.like.LikeBuffer;
+import com.loopers.domain.like.PendingLike;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자-상품 쌍의 좋아요 상태를 like:state:{productId}:{userId} 에 "1"/"0" 으로 기록하고,
+ * 반영할 쌍을 like:pending 집합에 모은다.
+ * 상태 키는 반영 주기보다 충분히 긴 TTL 을 가지므로, 키가 남아 있는 동안은 DB 대신 이 값이 현재 상태이다.
+ * 읽기와 쓰기 모두 master 에서 수행하여 자신이 기록한 상태를 바로 읽는다.
+ */
+@Slf4j
+@Component
+public class LikeRedisBuffer implements LikeBuffer {
+
+    private static final String STATE_KEY_PREFIX = "like:state:";
+    private static final String PENDING_KEY = "like:pending";
+    private static final String LIKED = "1";
+    private static final String UNLIKED = "0";
+
+    private static final RedisScript<Long> RECORD = new DefaultRedisScript<>(
+        """
+        local current = redis.call('GET', KEYS[1])
+        if not current then
+            current = ARGV[2]
+        end
+        if current == ARGV[1] then
+            return 0
+        end
+        redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3])
+        redis.call('SADD', KEYS[2], ARGV[4])
+        return 1
+        """,
+        Long.class
+    );
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final Duration stateTtl;
+
+    public LikeRedisBuffer(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+        @Value("${like.write-behind.state-ttl:1h}") Duration stateTtl
+    ) {
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.stateTtl = stateTtl;
+    }
+
+    @Override
+    public boolean record(String userId, Long productId, boolean liked, Supplier<Boolean> persistedState) {
+        String desired = toValue(liked);
+        String current = masterRedisTemplate.opsForValue().get(stateKey(userId, productId));
+        if (desired.equals(current)) {
+            return false;
+        }
+
+        String known = current != null ? current : toValue(persistedState.get());
+        Long recorded = masterRedisTemplate.execute(
+            RECORD,
+            List.of(stateKey(userId, productId), PENDING_KEY),
+            desired,
+            known,
+            String.valueOf(stateTtl.toMillis()),
+            member(userId, productId)
+        );
+        return recorded != null && recorded == 1L;
+    }
+
+    @Override
+    public Optional<Boolean> get(String userId, Long productId) {
+        return Optional.ofNullable(masterRedisTemplate.opsForValue().get(stateKey(userId, productId)))
+            .map(LIKED::equals);
+    }
+
+    @Override
+    public List<PendingLike> popPending(int count) {
+        List<String> members = masterRedisTemplate.opsForSet().pop(PENDING_KEY, count);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> keys = members.stream()
+            .map(member -> STATE_KEY_PREFIX + member)
+            .toList();
+        List<String> states = masterRedisTemplate.opsForValue().multiGet(keys);
+
+        List<PendingLike> pending = new ArrayList<>(members.size());
+        for (int i = 0; i < members.size(); i++) {
+            String state = states != null ? states.get(i) : null;
+            if (state == null) {
+                log.warn("반영 전에 좋아요 상태가 만료되었습니다. member: {}", members.get(i));
+                continue;
+            }
+
+            String[] tokens = members.get(i).split(":", 2);
+            pending.add(new PendingLike(tokens[1], Long.valueOf(tokens[0]), LIKED.equals(state)));
+        }
+        return pending;
+    }
+
+    @Override
+    public void markPending(List<PendingLike> likes) {
+        for (PendingLike like : likes) {
+            masterRedisTemplate.expire(stateKey(like.userId(), like.productId()), stateTtl);
+            masterRedisTemplate.opsForSet().add(PENDING_KEY, member(like.userId(), like.productId()));
+        }
+    }
+
+    private String stateKey(String userId, Long productId) {
+        return STATE_KEY_PREFIX + member(userId, productId);
+    }
+
+    private String member(String userId, Long productId) {
+        return productId + ":" + userId;
+    }
+
+    private String toValue(boolean liked) {
+        return liked ? LIKED : UNLIKED;
+    }
+}
@@ -1,12 +1,22 @@
 package com.loopers.infrastructure.like;
 
+import static com.loopers.domain.like.QLike.like;
+import static com.loopers.domain.product.QProduct.product;
+
 import com.loopers.domain.like.Like;
 import com.loopers.domain.like.LikeRepository;
+import com.loopers.domain.like.ProductLikeCount;
+import com.loopers.domain.product.ProductSummary;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -14,6 +24,8 @@ import org.springframework.stereotype.Component;
 public class LikeRepositoryImpl implements LikeRepository {
 
     private final LikeJpaRepository likeJpaRepository;
+    private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Like save(Like like) {
@@ -25,9 +37,18 @@ public class LikeRepositoryImpl implements LikeRepository {
         return likeJpaRepository.findByUserIdAndProductId(userId, productId).orElse(null);
     }
 
+    /**
+     * (userId, productId) 유니크 제약에 걸리면 INSERT IGNORE 가 0 건을 반환하므로, 존재 여부를 먼저 조회하지 않는다.
+     * 동시에 같은 좋아요가 들어와도 하나만 추가되고 나머지는 false 를 받는다.
+     */
     @Override
-    public void deleteByUserIdAndProductId(String userId, Long productId) {
-        likeJpaRepository.deleteByUserIdAndProductId(userId, productId);
+    public boolean insertIfAbsent(Like like) {
+        return likeJpaRepository.insertIgnore(like.getUserId(), like.getProductId(), like.getCreatedAt()) > 0;
+    }
+
+    @Override
+    public long deleteByUserIdAndProductId(String userId, Long productId) {
+        return likeJpaRepository.deleteByUserIdAndProductId(userId, productId);
     }
 
     @Override
@@ -44,6 +65,31 @@ public class LikeRepositoryImpl implements LikeRepository {
         return likePage.getContent();
     }
 
+    /**
+     * 상품과 브랜드 엔티티를 함께 올리지 않고 상품 컬럼만 프로젝션으로 읽는다. 브랜드는 호출 측에서 브랜드 사전으로 채운다.
+     */
+    @Override
+    public List<ProductSummary> findLikedProductsByUserIdWithPaging(String userId, int page, int size) {
+        return queryFactory
+            .select(Projections.constructor(
+                ProductSummary.class,
+                product.id,
+                product.name,
+                product.price.value,
+                product.stockQuantity.value,
+                product.brandId,
+                product.likeCount,
+                product.createdAt
+            ))
+            .from(like)
+            .join(product).on(product.id.eq(like.productId))
+            .where(like.userId.eq(userId))
+            .orderBy(like.createdAt.desc(), like.id.desc())
+            .offset((long) page * size)
+            .limit(size)
+            .fetch();
+    }
+
     @Override
     public boolean existsByUserIdAndProductId(String userId, Long productId) {
         return likeJpaRepository.existsByUserIdAndProductId(userId, productId);
@@ -54,8 +100,48 @@ public class LikeRepositoryImpl implements LikeRepository {
         return likeJpaRepository.countByProductId(productId);
     }
 
+    @Override
+    public List<ProductLikeCount> countByProductIds(Collection<Long> productIds) {
+        return likeJpaRepository.countByProductIds(productIds);
+    }
+
     @Override
     public long countByUserId(String userId) {
         return likeJpaRepository.countByUserId(userId);
     }
+
+    @Override
+    public List<Like> findAllByUserIdsAndProductIds(Collection<String> userIds, Collection<Long> productIds) {
+        return likeJpaRepository.findAllByUserIdsAndProductIds(userIds, productIds);
+    }
+
+    /**
+     * rewriteBatchedStatements 설정으로 여러 행 INSERT 한 문장으로 전송된다.
+     */
+    @Override
+    public void insertIgnoreAll(List<Like> likes) {
+        jdbcTemplate.batchUpdate(
+            "INSERT IGNORE INTO likes (user_id, product_id, created_at) VALUES (?, ?, ?)",
+            likes,
+            likes.size(),
+            (statement, like) -> {
+                statement.setString(1, like.getUserId());
+                statement.setLong(2, like.getProductId());
+                statement.setTimestamp(3, Timestamp.valueOf(like.getCreatedAt()));
+            }
+        );
+    }
+
+    @Override
+    public void deleteAll(List<Like> likes) {
+        jdbcTemplate.batchUpdate(
+            "DELETE FROM likes WHERE user_id = ? AND product_id = ?",
+            likes,
+            likes.size(),
+            (statement, like) -> {
+                statement.setString(1, like.getUserId());
+                statement.setLong(2, like.getProductId());
+            }
+        );
+    }
 }
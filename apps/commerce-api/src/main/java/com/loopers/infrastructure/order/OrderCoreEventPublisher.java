@@ -0,0 +1,19 @@
+package com.loopers.infrastructure.order;
+
+import com.loopers.domain.order.OrderEvent;
+import com.loopers.domain.order.OrderEventPublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class OrderCoreEventPublisher implements OrderEventPublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public void publish(OrderEvent.PaymentCompleted event) {
+        applicationEventPublisher.publishEvent(event);
+    }
+}
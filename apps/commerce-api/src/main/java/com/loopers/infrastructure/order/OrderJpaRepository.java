@@ -1,13 +1,22 @@
 package com.loopers.infrastructure.order;
 
 import com.loopers.domain.order.Order;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface OrderJpaRepository extends JpaRepository<Order, Long> {
 
     Optional<Order> findByIdAndUserId(Long orderId, String userId);
 
-    List<Order> findByUserIdOrderByOrderedAtDesc(String userId);
+    @Modifying
+    @Query("""
+        UPDATE Order o SET o.status = com.loopers.domain.order.OrderStatus.CANCELLED
+        WHERE o.id IN :ids AND o.status = com.loopers.domain.order.OrderStatus.PAYMENT_PENDING
+        """)
+    int cancelAllPaymentPending(@Param("ids") Collection<Long> ids);
 }
@@ -1,7 +1,14 @@
 package com.loopers.infrastructure.order;
 
+import static com.loopers.domain.order.QOrder.order;
+import static com.loopers.domain.order.QOrderItem.orderItem;
+
 import com.loopers.domain.order.Order;
 import com.loopers.domain.order.OrderRepository;
+import com.loopers.domain.order.OrderSummary;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.Collection;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -11,6 +18,7 @@ import org.springframework.stereotype.Component;
 public class OrderRepositoryImpl implements OrderRepository {
 
     private final OrderJpaRepository orderJpaRepository;
+    private final JPAQueryFactory queryFactory;
 
     @Override
     public Order save(Order order) {
@@ -27,8 +35,30 @@ public class OrderRepositoryImpl implements OrderRepository {
         return orderJpaRepository.findByIdAndUserId(orderId, userId).orElse(null);
     }
 
+    /**
+     * 주문 엔티티 대신 필요한 컬럼만 프로젝션으로 읽어, 주문마다 items 컬렉션을 지연 로딩하던 N+1 조회를 없앤다.
+     */
+    @Override
+    public List<OrderSummary> findSummariesByUserId(String userId) {
+        return queryFactory
+            .select(Projections.constructor(
+                OrderSummary.class,
+                order.id,
+                order.totalPrice.value,
+                order.status,
+                orderItem.count(),
+                order.orderedAt
+            ))
+            .from(order)
+            .leftJoin(order.items, orderItem)
+            .where(order.userId.eq(userId))
+            .groupBy(order.id)
+            .orderBy(order.orderedAt.desc(), order.id.desc())
+            .fetch();
+    }
+
     @Override
-    public List<Order> findByUserIdOrderByOrderedAtDesc(String userId) {
-        return orderJpaRepository.findByUserIdOrderByOrderedAtDesc(userId);
+    public int cancelAllPaymentPending(Collection<Long> orderIds) {
+        return orderJpaRepository.cancelAllPaymentPending(orderIds);
     }
 }
@@ -0,0 +1,46 @@
+package com.loopers.infrastructure.order;
+
+import com.loopers.domain.order.StockHold;
+import com.loopers.domain.order.StockHoldStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface StockHoldJpaRepository extends JpaRepository<StockHold, Long> {
+
+    @Modifying
+    @Query("""
+        UPDATE StockHold h SET h.status = com.loopers.domain.order.StockHoldStatus.CONFIRMED
+        WHERE h.orderId = :orderId AND h.status = com.loopers.domain.order.StockHoldStatus.HELD
+        """)
+    int confirmByOrderId(@Param("orderId") Long orderId);
+
+    @Modifying
+    @Query("""
+        UPDATE StockHold h SET h.expiresAt = :expiresAt
+        WHERE h.orderId = :orderId AND h.status = com.loopers.domain.order.StockHoldStatus.HELD
+        """)
+    int expireByOrderId(@Param("orderId") Long orderId, @Param("expiresAt") LocalDateTime expiresAt);
+
+    boolean existsByOrderIdAndStatus(Long orderId, StockHoldStatus status);
+
+    /**
+     * (status, expires_at) 인덱스 범위만 읽고, 다른 트랜잭션이 잠근 행은 건너뛰어 여러 인스턴스가 나누어 처리할 수 있다.
+     */
+    @Query(value = """
+        SELECT * FROM stock_hold h
+        WHERE h.status = 'HELD' AND h.expires_at <= :now
+        ORDER BY h.expires_at, h.id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<StockHold> findExpiredWithLock(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE StockHold h SET h.status = com.loopers.domain.order.StockHoldStatus.RELEASED WHERE h.id IN :ids")
+    int releaseAll(@Param("ids") Collection<Long> ids);
+}
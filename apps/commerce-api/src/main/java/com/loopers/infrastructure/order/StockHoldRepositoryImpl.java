@@ -0,0 +1,47 @@
+package com.loopers.infrastructure.order;
+
+import com.loopers.domain.order.StockHold;
+import com.loopers.domain.order.StockHoldRepository;
+import com.loopers.domain.order.StockHoldStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class StockHoldRepositoryImpl implements StockHoldRepository {
+
+    private final StockHoldJpaRepository stockHoldJpaRepository;
+
+    @Override
+    public List<StockHold> saveAll(List<StockHold> holds) {
+        return stockHoldJpaRepository.saveAll(holds);
+    }
+
+    @Override
+    public int confirmByOrderId(Long orderId) {
+        return stockHoldJpaRepository.confirmByOrderId(orderId);
+    }
+
+    @Override
+    public int expireByOrderId(Long orderId, LocalDateTime expiresAt) {
+        return stockHoldJpaRepository.expireByOrderId(orderId, expiresAt);
+    }
+
+    @Override
+    public boolean existsByOrderIdAndStatus(Long orderId, StockHoldStatus status) {
+        return stockHoldJpaRepository.existsByOrderIdAndStatus(orderId, status);
+    }
+
+    @Override
+    public List<StockHold> findExpiredWithLock(LocalDateTime now, int limit) {
+        return stockHoldJpaRepository.findExpiredWithLock(now, limit);
+    }
+
+    @Override
+    public int releaseAll(Collection<Long> ids) {
+        return stockHoldJpaRepository.releaseAll(ids);
+    }
+}
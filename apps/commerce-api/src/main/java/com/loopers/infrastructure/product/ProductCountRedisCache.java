@@ -0,0 +1,60 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductCountCache;
+import com.loopers.infrastructure.cache.RedisCountStore;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ProductCountRedisCache implements ProductCountCache {
+
+    private static final String TOTAL_COUNT_KEY = "product:count:total";
+    private static final String BRAND_COUNT_KEY_PREFIX = "product:count:brand:";
+
+    private final RedisCountStore redisCountStore;
+    private final Duration ttl;
+
+    public ProductCountRedisCache(
+        RedisCountStore redisCountStore,
+        @Value("${cache.count.ttl:30s}") Duration ttl
+    ) {
+        this.redisCountStore = redisCountStore;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public Optional<Long> getTotalCount() {
+        return redisCountStore.get(TOTAL_COUNT_KEY);
+    }
+
+    @Override
+    public void putTotalCount(long count) {
+        redisCountStore.put(TOTAL_COUNT_KEY, count, ttl);
+    }
+
+    @Override
+    public void increaseTotalCount(long delta) {
+        redisCountStore.incrementIfPresent(TOTAL_COUNT_KEY, delta);
+    }
+
+    @Override
+    public Optional<Long> getBrandCount(Long brandId) {
+        return redisCountStore.get(brandKey(brandId));
+    }
+
+    @Override
+    public void putBrandCount(Long brandId, long count) {
+        redisCountStore.put(brandKey(brandId), count, ttl);
+    }
+
+    @Override
+    public void increaseBrandCount(Long brandId, long delta) {
+        redisCountStore.incrementIfPresent(brandKey(brandId), delta);
+    }
+
+    private String brandKey(Long brandId) {
+        return BRAND_COUNT_KEY_PREFIX + brandId;
+    }
+}
@@ -0,0 +1,41 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.application.product.ProductDetailCache;
+import com.loopers.application.product.ProductInfo;
+import com.loopers.infrastructure.cache.TwoLevelCache;
+import com.loopers.infrastructure.cache.TwoLevelCacheManager;
+import java.time.Duration;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 상세(ProductInfo.Detail)를 로컬 캐시(L1)와 Redis(L2)에 보관한다.
+ * 재고 변경, 좋아요 변경 시 제거되며 다른 인스턴스의 L1 도 무효화 메시지로 함께 제거된다.
+ */
+@Component
+public class ProductDetailTwoLevelCache implements ProductDetailCache {
+
+    private static final String CACHE_NAME = "product:detail";
+
+    private final TwoLevelCache<ProductInfo.Detail> cache;
+
+    public ProductDetailTwoLevelCache(
+        TwoLevelCacheManager cacheManager,
+        @Value("${cache.product-detail.local.max-size:10000}") long localMaxSize,
+        @Value("${cache.product-detail.local.ttl:10s}") Duration localTtl,
+        @Value("${cache.product-detail.ttl:10m}") Duration ttl
+    ) {
+        this.cache = cacheManager.create(CACHE_NAME, ProductInfo.Detail.class, localMaxSize, localTtl, ttl);
+    }
+
+    @Override
+    public ProductInfo.Detail get(Long productId, Supplier<ProductInfo.Detail> loader) {
+        return cache.get(String.valueOf(productId), loader);
+    }
+
+    @Override
+    public void evict(Long productId) {
+        cache.evict(String.valueOf(productId));
+    }
+}
@@ -3,11 +3,12 @@ package com.loopers.infrastructure.product;
 import com.loopers.domain.product.Product;
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
@@ -21,35 +22,74 @@ public interface ProductJpaRepository extends JpaRepository<Product, Long> {
     @Query("SELECT p FROM Product p WHERE p.id = :id")
     Optional<Product> findByIdWithLock(@Param("id") Long id);
 
+    /**
+     * 여러 상품의 행을 ID 오름차순으로 한 번에 잠근다. 잠금 순서를 고정하여 주문 간 교착 상태를 막는다.
+     */
+    @Query(value = "SELECT p.id FROM product p WHERE p.id IN (:ids) ORDER BY p.id FOR UPDATE", nativeQuery = true)
+    List<Long> lockAllByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p.id FROM Product p WHERE p.id IN :ids AND p.stockSharded = true")
+    List<Long> findStockShardedIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p.id FROM Product p WHERE p.stockSharded = true")
+    List<Long> findAllStockShardedIds();
+
+    @Modifying(flushAutomatically = true)
     @Query("""
-        SELECT p FROM Product p 
-        LEFT JOIN Like l ON p.id = l.productId 
-        GROUP BY p.id, p.name, p.price, p.stockQuantity, p.brandId, p.createdAt
-        ORDER BY COUNT(l.id) DESC
+        UPDATE Product p
+        SET p.stockQuantity.value = p.stockQuantity.value - :quantity
+        WHERE p.id = :id AND p.stockQuantity.value >= :quantity
         """)
-    Page<Product> findAllOrderByLikeCountDesc(Pageable pageable);
+    int decreaseStockIfAvailable(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("UPDATE Product p SET p.stockQuantity.value = p.stockQuantity.value + :quantity WHERE p.id = :id")
+    int increaseStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("UPDATE Product p SET p.stockQuantity.value = :stock WHERE p.id = :id")
+    int updateStock(@Param("id") Long id, @Param("stock") int stock);
 
-    @Query("SELECT p FROM Product p ORDER BY p.price.value ASC")
-    Page<Product> findAllByOrderByPriceValueAsc(Pageable pageable);
+    long countByBrandId(Long brandId);
 
-    Page<Product> findAllByOrderByCreatedAtDesc(Pageable pageable);
+    @Modifying
+    @Query("UPDATE Product p SET p.likeCount = p.likeCount + 1 WHERE p.id = :id")
+    int increaseLikeCount(@Param("id") Long id);
 
-    @Query("SELECT p FROM Product p WHERE p.brandId = :brandId")
-    Page<Product> findByBrandId(@Param("brandId") Long brandId, Pageable pageable);
+    @Modifying
+    @Query("UPDATE Product p SET p.likeCount = p.likeCount - 1 WHERE p.id = :id AND p.likeCount > 0")
+    int decreaseLikeCount(@Param("id") Long id);
 
+    @Modifying
     @Query("""
-        SELECT p FROM Product p 
-        LEFT JOIN Like l ON p.id = l.productId 
-        WHERE p.brandId = :brandId
-        GROUP BY p.id, p.name, p.price, p.stockQuantity, p.brandId, p.createdAt
-        ORDER BY COUNT(l.id) DESC
+        UPDATE Product p
+        SET p.likeCount = CASE WHEN p.likeCount + :delta < 0 THEN 0 ELSE p.likeCount + :delta END
+        WHERE p.id = :id
         """)
-    Page<Product> findByBrandIdOrderByLikeCountDesc(@Param("brandId") Long brandId, Pageable pageable);
+    int increaseLikeCount(@Param("id") Long id, @Param("delta") long delta);
 
-    @Query("SELECT p FROM Product p WHERE p.brandId = :brandId ORDER BY p.price.value ASC")
-    Page<Product> findByBrandIdOrderByPrice(@Param("brandId") Long brandId, Pageable pageable);
+    @Query(value = """
+        SELECT CAST(t.TABLE_ROWS AS SIGNED)
+        FROM information_schema.TABLES t
+        WHERE t.TABLE_SCHEMA = DATABASE() AND t.TABLE_NAME = 'product'
+        """, nativeQuery = true)
+    Long estimateCount();
 
-    @Query("SELECT p FROM Product p WHERE p.brandId = :brandId ORDER BY p.createdAt DESC")
-    Page<Product> findByBrandIdOrderByCreatedAt(@Param("brandId") Long brandId, Pageable pageable);
+    @Query("SELECT MAX(p.id) FROM Product p")
+    Long findMaxId();
 
+    @Modifying
+    @Query(value = """
+        UPDATE product p
+        LEFT JOIN (
+            SELECT l.product_id, COUNT(*) AS cnt
+            FROM likes l
+            WHERE l.product_id BETWEEN :fromId AND :toId
+            GROUP BY l.product_id
+        ) c ON c.product_id = p.id
+        SET p.like_count = COALESCE(c.cnt, 0)
+        WHERE p.id BETWEEN :fromId AND :toId
+          AND p.like_count <> COALESCE(c.cnt, 0)
+        """, nativeQuery = true)
+    int reconcileLikeCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
@@ -1,13 +1,27 @@
 package com.loopers.infrastructure.product;
 
+import static com.loopers.domain.product.QProduct.product;
+import static com.loopers.domain.product.QProductSalesStats.productSalesStats;
+
+import com.loopers.application.product.ProductCursor;
 import com.loopers.application.product.ProductSortOption;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductSummary;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -15,6 +29,8 @@ import org.springframework.stereotype.Component;
 public class ProductRepositoryImpl implements ProductRepository {
 
     private final ProductJpaRepository productJpaRepository;
+    private final JPAQueryFactory queryFactory;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public Product save(Product product) {
@@ -26,6 +42,14 @@ public class ProductRepositoryImpl implements ProductRepository {
         return productJpaRepository.findById(id);
     }
 
+    @Override
+    public List<ProductSummary> findAllByIds(Collection<Long> ids) {
+        return selectSummary()
+            .from(product)
+            .where(product.id.in(ids))
+            .fetch();
+    }
+
     @Override
     public Optional<Product> findByIdWithLock(Long id) {
         return productJpaRepository.findByIdWithLock(id);
@@ -37,13 +61,111 @@ public class ProductRepositoryImpl implements ProductRepository {
     }
 
     @Override
-    public List<Product> findAllWithSortingAndPaging(ProductSortOption sort, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
+    public List<ProductSummary> findAllWithSortingAndPaging(ProductSortOption sort, int page, int size) {
+        return findPage(null, sort, page, size);
+    }
+
+    /**
+     * (brand_id, 정렬 컬럼) 인덱스를 따라 브랜드 범위만 읽는다.
+     */
+    @Override
+    public List<ProductSummary> findAllByBrandIdWithSortingAndPaging(
+        Long brandId,
+        ProductSortOption sort,
+        int page,
+        int size
+    ) {
+        return findPage(product.brandId.eq(brandId), sort, page, size);
+    }
+
+    @Override
+    public long countByBrandId(Long brandId) {
+        return productJpaRepository.countByBrandId(brandId);
+    }
+
+    private List<ProductSummary> findPage(BooleanExpression condition, ProductSortOption sort, int page, int size) {
+        if (sort == ProductSortOption.SALES_DESC) {
+            return findPageOrderBySalesCountDesc(condition, page, size);
+        }
+
+        return selectSummary()
+            .from(product)
+            .where(condition)
+            .orderBy(orderBy(sort))
+            .offset((long) page * size)
+            .limit(size)
+            .fetch();
+    }
+
+    /**
+     * product_sales_stats 의 (sales_count, product_id) 인덱스를 역순으로 따라 읽고 상품을 붙인다.
+     * 판매 통계 행이 없는 상품(통계 도입 이전에 만들어져 한 번도 팔리지 않은 상품)은 포함되지 않는다.
+     */
+    private List<ProductSummary> findPageOrderBySalesCountDesc(BooleanExpression condition, int page, int size) {
+        return selectSummary()
+            .from(productSalesStats)
+            .join(product).on(product.id.eq(productSalesStats.productId))
+            .where(condition)
+            .orderBy(productSalesStats.salesCount.desc(), productSalesStats.productId.desc())
+            .offset((long) page * size)
+            .limit(size)
+            .fetch();
+    }
 
+    @Override
+    public List<ProductSummary> findAllByCursor(ProductSortOption sort, ProductCursor cursor, int size) {
+        return selectSummary()
+            .from(product)
+            .where(cursor != null ? afterCursor(sort, cursor) : null)
+            .orderBy(orderBy(sort))
+            .limit(size)
+            .fetch();
+    }
+
+    /**
+     * 목록 조회는 엔티티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 ProductSummary 로 바로 읽는다.
+     * 스냅샷 복사와 dirty checking 대상이 생기지 않는다.
+     */
+    private JPAQuery<ProductSummary> selectSummary() {
+        return queryFactory.select(Projections.constructor(
+            ProductSummary.class,
+            product.id,
+            product.name,
+            product.price.value,
+            product.stockQuantity.value,
+            product.brandId,
+            product.likeCount,
+            product.createdAt
+        ));
+    }
+
+    private BooleanExpression afterCursor(ProductSortOption sort, ProductCursor cursor) {
         return switch (sort) {
-            case LATEST -> productJpaRepository.findAllByOrderByCreatedAtDesc(pageable).getContent();
-            case PRICE_ASC -> productJpaRepository.findAllByOrderByPriceValueAsc(pageable).getContent();
-            case LIKES_DESC -> productJpaRepository.findAllOrderByLikeCountDesc(pageable).getContent();
+            case LATEST -> {
+                LocalDateTime createdAt = cursor.createdAt();
+                yield product.createdAt.lt(createdAt)
+                    .or(product.createdAt.eq(createdAt).and(product.id.lt(cursor.lastId())));
+            }
+            case PRICE_ASC -> {
+                BigDecimal price = cursor.price();
+                yield product.price.value.gt(price)
+                    .or(product.price.value.eq(price).and(product.id.gt(cursor.lastId())));
+            }
+            case LIKES_DESC -> {
+                long likeCount = cursor.likeCount();
+                yield product.likeCount.lt(likeCount)
+                    .or(product.likeCount.eq(likeCount).and(product.id.lt(cursor.lastId())));
+            }
+            case SALES_DESC -> throw ProductCursor.unsupportedSort();
+        };
+    }
+
+    private OrderSpecifier<?>[] orderBy(ProductSortOption sort) {
+        return switch (sort) {
+            case LATEST -> new OrderSpecifier<?>[]{product.createdAt.desc(), product.id.desc()};
+            case PRICE_ASC -> new OrderSpecifier<?>[]{product.price.value.asc(), product.id.asc()};
+            case LIKES_DESC -> new OrderSpecifier<?>[]{product.likeCount.desc(), product.id.desc()};
+            case SALES_DESC -> throw ProductCursor.unsupportedSort();
         };
     }
 
@@ -51,4 +173,80 @@ public class ProductRepositoryImpl implements ProductRepository {
     public long countAll() {
         return productJpaRepository.count();
     }
+
+    @Override
+    public long estimateCount() {
+        Long estimated = productJpaRepository.estimateCount();
+        return estimated != null ? estimated : productJpaRepository.count();
+    }
+
+    @Override
+    public List<Long> findStockShardedIds(Collection<Long> productIds) {
+        return productJpaRepository.findStockShardedIds(productIds);
+    }
+
+    @Override
+    public List<Long> findAllStockShardedIds() {
+        return productJpaRepository.findAllStockShardedIds();
+    }
+
+    /**
+     * 잠금 대기 시간은 주문 단위로 product.stock.lock.wait 타이머에 기록한다.
+     */
+    @Override
+    public List<Long> lockAllByIds(Collection<Long> productIds) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return productJpaRepository.lockAllByIds(productIds);
+        } finally {
+            sample.stop(Timer.builder("product.stock.lock.wait")
+                .description("주문 재고 행 잠금 대기 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public int decreaseStockIfAvailable(Long productId, int quantity) {
+        return productJpaRepository.decreaseStockIfAvailable(productId, quantity);
+    }
+
+    @Override
+    public void updateStock(Long productId, int stockQuantity) {
+        productJpaRepository.updateStock(productId, stockQuantity);
+    }
+
+    @Override
+    public void increaseLikeCounts(Map<Long, Long> deltas) {
+        deltas.forEach((productId, delta) -> {
+            if (delta != 0) {
+                productJpaRepository.increaseLikeCount(productId, delta);
+            }
+        });
+    }
+
+    @Override
+    public void increaseStock(Long productId, int quantity) {
+        productJpaRepository.increaseStock(productId, quantity);
+    }
+
+    @Override
+    public void increaseLikeCount(Long productId) {
+        productJpaRepository.increaseLikeCount(productId);
+    }
+
+    @Override
+    public void decreaseLikeCount(Long productId) {
+        productJpaRepository.decreaseLikeCount(productId);
+    }
+
+    @Override
+    public Long findMaxId() {
+        return productJpaRepository.findMaxId();
+    }
+
+    @Override
+    public int reconcileLikeCounts(Long fromId, Long toId) {
+        return productJpaRepository.reconcileLikeCounts(fromId, toId);
+    }
 }
@@ -0,0 +1,100 @@
+package com.loopers.infrastructure.product;
+
+import static com.loopers.domain.product.QProductDailySales.productDailySales;
+
+import com.loopers.domain.product.ProductSalesRepository;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ProductSalesRepositoryImpl implements ProductSalesRepository {
+
+    private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 식별자를 직접 지정하는 엔티티라 save 는 merge 로 SELECT 를 먼저 수행하므로, INSERT 한 문장으로 만든다.
+     */
+    @Override
+    public void createStats(Long productId) {
+        jdbcTemplate.update(
+            "INSERT IGNORE INTO product_sales_stats (product_id, sales_count, updated_at) VALUES (?, 0, ?)",
+            productId,
+            Timestamp.valueOf(LocalDateTime.now())
+        );
+    }
+
+    /**
+     * 여러 주문이 같은 상품 행을 갱신할 때 교착 상태가 생기지 않도록 상품 ID 오름차순으로 upsert 한다.
+     */
+    @Override
+    public void increaseSales(Map<Long, Integer> quantities, LocalDate date) {
+        List<Map.Entry<Long, Integer>> entries = List.copyOf(new TreeMap<>(quantities).entrySet());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(
+            """
+            INSERT INTO product_sales_stats (product_id, sales_count, updated_at) VALUES (?, ?, ?)
+            ON DUPLICATE KEY UPDATE sales_count = sales_count + VALUES(sales_count), updated_at = VALUES(updated_at)
+            """,
+            entries,
+            entries.size(),
+            (statement, entry) -> {
+                statement.setLong(1, entry.getKey());
+                statement.setLong(2, entry.getValue());
+                statement.setTimestamp(3, now);
+            }
+        );
+
+        jdbcTemplate.batchUpdate(
+            """
+            INSERT INTO product_daily_sales (product_id, sales_date, sales_count) VALUES (?, ?, ?)
+            ON DUPLICATE KEY UPDATE sales_count = sales_count + VALUES(sales_count)
+            """,
+            entries,
+            entries.size(),
+            (statement, entry) -> {
+                statement.setLong(1, entry.getKey());
+                statement.setDate(2, Date.valueOf(date));
+                statement.setLong(3, entry.getValue());
+            }
+        );
+    }
+
+    @Override
+    public List<Long> findBestSellerIds(LocalDate from, LocalDate to, int page, int size) {
+        NumberExpression<Long> totalSales = productDailySales.salesCount.sum();
+
+        return queryFactory
+            .select(productDailySales.productId)
+            .from(productDailySales)
+            .where(productDailySales.salesDate.between(from, to))
+            .groupBy(productDailySales.productId)
+            .orderBy(totalSales.desc(), productDailySales.productId.desc())
+            .offset((long) page * size)
+            .limit(size)
+            .fetch();
+    }
+
+    @Override
+    public long countBestSellers(LocalDate from, LocalDate to) {
+        Long count = queryFactory
+            .select(productDailySales.productId.countDistinct())
+            .from(productDailySales)
+            .where(productDailySales.salesDate.between(from, to))
+            .fetchOne();
+
+        return count != null ? count : 0;
+    }
+}
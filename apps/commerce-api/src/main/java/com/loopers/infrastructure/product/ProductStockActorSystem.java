@@ -0,0 +1,530 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductStockActor;
+import com.loopers.domain.product.ProductStockPartitionFence;
+import com.loopers.domain.product.ProductStockPartitionFenceRepository;
+import com.loopers.domain.product.Quantity;
+import com.loopers.redis.lease.RedisLease;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상품 ID 를 파티션으로 나누고, 파티션마다 단일 스레드가 그 파티션 상품의 재고 카운터를 소유한다.
+ * 카운터는 처음 요청될 때 DB 에서 읽어 오고, 이후 차감/복원은 해당 스레드에서만 일어나므로 잠금이 필요 없다.
+ * 변경분은 파티션별 write-behind 로그(상품별 증감 합계)에 쌓였다가 flush-interval 마다 한 트랜잭션으로 반영된다.
+ *
+ * 재고 요청을 처음 받은 노드부터 살아 있는 노드로 Redis 에 등록되고, 파티션마다 rendezvous 해시로 담당 노드 하나를 정한다.
+ * 담당 노드만 Redis lease 를 잡아 카운터를 사용하고, 나머지 요청은 NOT_OWNER 로 거절하므로 요청은 상품 기준으로 담당 노드에 라우팅되어야 한다.
+ * 노드가 늘거나 줄면 담당이 아니게 된 파티션은 로그를 반영하고 lease 를 내려놓는다.
+ *
+ * lease 를 잡은 노드는 product_stock_partition_fence 의 fencing token 을 올린 뒤에야 재고를 읽고,
+ * write-behind 는 fence 행을 잠근 채 자신의 token 이 최신일 때만 반영한다. GC 정지나 네트워크 단절로 lease 를 잃은
+ * 이전 소유자의 늦은 반영은 버려진다. 이전 소유자가 소유권을 정상적으로 내려놓지 않았으면 새 소유자는 lease-ttl 만큼 기다려
+ * 이전 소유자가 스스로 판매를 멈추고 남은 로그를 반영할 시간을 준 뒤 token 을 올린다.
+ * 각 노드는 lease 를 잡거나 갱신하기 직전 시각부터 lease-ttl 이 지나면 갱신에 성공하기 전까지 판매하지 않는다.
+ * 재고 복원도 소유자의 로그를 거친다. 이 노드가 소유자가 아니면 파티션별 Redis 대기 목록에 쌓아 두고, 소유자가 flush 때 가져간다.
+ * 비정상 종료 시 마지막 flush 이후의 변경은 유실될 수 있다.
+ */
+@Slf4j
+@Component
+public class ProductStockActorSystem implements ProductStockActor {
+
+    private static final String LEASE_KEY_PREFIX = "inventory:actor:partition:";
+    private static final String NODES_KEY = "inventory:actor:nodes";
+
+    private static final RedisScript<List> DRAIN_RELEASES = new DefaultRedisScript<>(
+        """
+        local entries = redis.call('HGETALL', KEYS[1])
+        redis.call('DEL', KEYS[1])
+        return entries
+        """,
+        List.class
+    );
+
+    private final ProductRepository productRepository;
+    private final ProductStockPartitionFenceRepository fenceRepository;
+    private final RedisLease redisLease;
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Value("${product.stock.actor.partitions:16}")
+    private int partitionCount;
+
+    @Value("${product.stock.actor.lease-ttl:10s}")
+    private Duration leaseTtl;
+
+    @Value("${product.stock.actor.flush-interval:200ms}")
+    private Duration flushInterval;
+
+    private Partition[] partitions;
+    private ScheduledExecutorService maintenance;
+    private volatile List<String> liveNodes = List.of();
+    private volatile boolean active;
+
+    public ProductStockActorSystem(
+        ProductRepository productRepository,
+        ProductStockPartitionFenceRepository fenceRepository,
+        RedisLease redisLease,
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.productRepository = productRepository;
+        this.fenceRepository = fenceRepository;
+        this.redisLease = redisLease;
+        this.masterRedisTemplate = masterRedisTemplate;
+        // 주문 트랜잭션 안에서 token 을 올려도 주문의 롤백과 무관하게 커밋되고, fence 행 잠금이 주문 커밋까지 이어지지 않게 한다.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    void start() {
+        partitions = new Partition[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            partitions[i] = new Partition(i);
+        }
+
+        maintenance = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stock-actor-maintenance");
+            thread.setDaemon(true);
+            return thread;
+        });
+        maintenance.scheduleWithFixedDelay(
+            this::flushQuietly, flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS
+        );
+        maintenance.scheduleWithFixedDelay(
+            this::renewLeases, leaseTtl.toMillis() / 3, leaseTtl.toMillis() / 3, TimeUnit.MILLISECONDS
+        );
+    }
+
+    @PreDestroy
+    void stop() {
+        maintenance.shutdown();
+        if (active) {
+            masterRedisTemplate.opsForZSet().remove(NODES_KEY, nodeId);
+        }
+        for (Partition partition : partitions) {
+            if (partition.owned) {
+                handOver(partition);
+            }
+            partition.executor.shutdown();
+        }
+    }
+
+    @Override
+    public CompletableFuture<Result> decrease(Long productId, int quantity) {
+        if (!active) {
+            activate();
+        }
+
+        Partition partition = partitionOf(productId);
+        if (!partition.ensureOwned()) {
+            return CompletableFuture.completedFuture(Result.NOT_OWNER);
+        }
+
+        return CompletableFuture.supplyAsync(() -> partition.decrease(productId, quantity), partition.executor);
+    }
+
+    @Override
+    public void release(Long productId, int quantity) {
+        Partition partition = partitionOf(productId);
+        partition.executor.execute(() -> partition.release(productId, quantity));
+    }
+
+    /**
+     * 다른 노드가 쌓아 둔 복원을 가져와 로그에 더한 뒤 반영한다.
+     */
+    @Override
+    public synchronized void flush() {
+        for (Partition partition : partitions) {
+            Map<Long, Integer> releases = partition.owned && partition.fencingToken != 0L
+                ? drainPendingReleases(partition.index)
+                : Map.of();
+            writeBehind(partition, partition.call(() -> {
+                releases.forEach(partition::release);
+                return partition.drainLog();
+            }), false);
+        }
+    }
+
+    /**
+     * 모든 카운터와 로그를 반영 없이 버리고 소유권을 다시 확인하게 한다. 테스트에서 DB 를 비운 뒤 사용한다.
+     */
+    public void clearLocal() {
+        for (Partition partition : partitions) {
+            partition.call(partition::relinquish);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("재고 write-behind 반영 실패", e);
+        }
+    }
+
+    private void renewLeases() {
+        heartbeat();
+        for (Partition partition : partitions) {
+            if (!partition.owned) {
+                continue;
+            }
+
+            try {
+                if (!isAssigned(partition.index)) {
+                    log.info("재고 파티션을 담당 노드에 넘깁니다. partition: {}", partition.index);
+                    handOver(partition);
+                    continue;
+                }
+
+                long renewStartedAt = System.nanoTime();
+                if (redisLease.renew(partition.leaseKey(), nodeId, leaseTtl)) {
+                    partition.leaseDeadline = renewStartedAt + leaseTtl.toNanos();
+                } else {
+                    log.warn("재고 파티션 소유권을 잃었습니다. partition: {}", partition.index);
+                    writeBehind(partition, partition.call(partition::relinquish), true);
+                }
+            } catch (RuntimeException e) {
+                log.warn("재고 파티션 lease 갱신 실패. partition: {}", partition.index, e);
+            }
+        }
+    }
+
+    private String pendingReleasesKey(int partitionIndex) {
+        return LEASE_KEY_PREFIX + partitionIndex + ":releases";
+    }
+
+    private void addPendingRelease(int partitionIndex, Long productId, int quantity) {
+        masterRedisTemplate.opsForHash().increment(pendingReleasesKey(partitionIndex), productId.toString(), quantity);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Integer> drainPendingReleases(int partitionIndex) {
+        List<String> entries;
+        try {
+            entries = masterRedisTemplate.execute(DRAIN_RELEASES, List.of(pendingReleasesKey(partitionIndex)));
+        } catch (RuntimeException e) {
+            log.warn("재고 복원 대기 목록 조회 실패. partition: {}", partitionIndex, e);
+            return Map.of();
+        }
+
+        Map<Long, Integer> releases = new HashMap<>();
+        if (entries != null) {
+            for (int i = 0; i + 1 < entries.size(); i += 2) {
+                releases.put(Long.valueOf(entries.get(i)), Integer.valueOf(entries.get(i + 1)));
+            }
+        }
+        return releases;
+    }
+
+    private void handOver(Partition partition) {
+        writeBehind(partition, partition.call(partition::relinquish), true);
+        redisLease.release(partition.leaseKey(), nodeId);
+    }
+
+    private synchronized void activate() {
+        if (!active) {
+            active = true;
+            heartbeat();
+        }
+    }
+
+    /**
+     * 이 노드를 살아 있는 노드로 등록하고, 만료된 노드를 지운 뒤 노드 목록을 다시 읽는다.
+     * 재고 요청을 받은 적 없는 노드는 등록하지 않아 파티션을 배정받지 않는다.
+     */
+    private void heartbeat() {
+        if (!active) {
+            return;
+        }
+
+        try {
+            long now = System.currentTimeMillis();
+            masterRedisTemplate.opsForZSet().add(NODES_KEY, nodeId, now + leaseTtl.toMillis());
+            masterRedisTemplate.opsForZSet().removeRangeByScore(NODES_KEY, Double.NEGATIVE_INFINITY, now);
+            Set<String> nodes = masterRedisTemplate.opsForZSet().rangeByScore(NODES_KEY, now, Double.POSITIVE_INFINITY);
+            liveNodes = nodes == null ? List.of() : List.copyOf(nodes);
+        } catch (RuntimeException e) {
+            log.warn("재고 액터 노드 등록 실패", e);
+        }
+    }
+
+    /**
+     * 살아 있는 노드 중 (파티션, 노드) 해시가 가장 큰 노드가 파티션을 담당한다.
+     * 노드가 하나 빠지거나 더해져도 그 노드가 담당하던, 혹은 담당하게 될 파티션만 옮겨진다.
+     */
+    private boolean isAssigned(int partitionIndex) {
+        return Stream.concat(liveNodes.stream(), Stream.of(nodeId))
+            .distinct()
+            .max(Comparator.comparingLong((String node) -> assignmentScore(node, partitionIndex))
+                .thenComparing(Comparator.naturalOrder()))
+            .filter(nodeId::equals)
+            .isPresent();
+    }
+
+    private static long assignmentScore(String node, int partitionIndex) {
+        long hash = node.hashCode() * 0x9E3779B97F4A7C15L + partitionIndex;
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    /**
+     * 이전 소유자가 소유권을 정상적으로 내려놓았는지 확인한다. 한 번도 소유된 적 없는 파티션도 내려놓은 것으로 본다.
+     */
+    private boolean isReleased(int partitionIndex) {
+        return fenceRepository.findByPartitionNo(partitionIndex)
+            .map(ProductStockPartitionFence::isReleased)
+            .orElse(true);
+    }
+
+    /**
+     * fencing token 을 올려 이후 이전 소유자의 반영을 막고, 올린 token 을 반환한다.
+     */
+    private long claimFence(int partitionIndex) {
+        Long fencingToken = transactionTemplate.execute(status -> {
+            ProductStockPartitionFence fence = fenceRepository.findByPartitionNoWithLock(partitionIndex)
+                .orElseGet(() -> ProductStockPartitionFence.create(partitionIndex));
+            long claimed = fence.claim();
+            fenceRepository.save(fence);
+            return claimed;
+        });
+        return fencingToken == null ? 0L : fencingToken;
+    }
+
+    /**
+     * fence 행을 잠그고 token 이 여전히 최신일 때만 로그의 증감 합계를 상품별 UPDATE 로 반영한다.
+     * release 이면 같은 트랜잭션에서 소유권을 내려놓았다고 기록해, 새 소유자가 기다리지 않게 한다.
+     * token 이 밀렸으면 다른 노드가 이미 재고를 다시 읽었으므로 로그를 버린다.
+     * DB 반영에 실패하면 로그를 되돌려 다음 반영에서 다시 시도한다.
+     */
+    private synchronized void writeBehind(Partition partition, Flush flush, boolean release) {
+        if (flush.fencingToken() == 0L || (flush.deltas().isEmpty() && !release)) {
+            return;
+        }
+
+        Boolean applied;
+        try {
+            applied = transactionTemplate.execute(status -> {
+                Optional<ProductStockPartitionFence> fence = fenceRepository.findByPartitionNoWithLock(partition.index)
+                    .filter(current -> current.isHeldBy(flush.fencingToken()));
+                if (fence.isEmpty()) {
+                    return false;
+                }
+
+                flush.deltas().forEach(productRepository::increaseStock);
+                if (release) {
+                    fence.get().release();
+                    fenceRepository.save(fence.get());
+                }
+                return true;
+            });
+        } catch (RuntimeException e) {
+            flush.deltas().forEach((productId, delta) ->
+                partition.executor.execute(() -> partition.requeue(flush.fencingToken(), productId, delta))
+            );
+            throw e;
+        }
+
+        if (!Boolean.TRUE.equals(applied)) {
+            log.error(
+                "다른 노드가 재고 파티션을 넘겨받아 이전 token 의 변경을 반영하지 않습니다. partition: {}, fencingToken: {}, deltas: {}",
+                partition.index, flush.fencingToken(), flush.deltas()
+            );
+        }
+    }
+
+    private Partition partitionOf(Long productId) {
+        return partitions[(int) Math.floorMod(productId, (long) partitionCount)];
+    }
+
+    private Optional<Integer> loadStock(Long productId) {
+        return productRepository.findById(productId)
+            .map(Product::getStockQuantity)
+            .map(Quantity::getValue);
+    }
+
+    private record Flush(long fencingToken, Map<Long, Integer> deltas) {
+    }
+
+    private class Partition {
+        private final int index;
+        private final ExecutorService executor;
+
+        // 아래 두 맵은 파티션 스레드에서만 접근한다.
+        private final Map<Long, Integer> stocks = new HashMap<>();
+        private final Map<Long, Integer> deltas = new HashMap<>();
+
+        private volatile boolean owned;
+        private volatile long fencingToken; // 0 이면 아직 token 을 올리지 않아 판매할 수 없다.
+        private volatile long leaseDeadline; // System.nanoTime 기준. 이 시각이 지나면 갱신 전까지 판매하지 않는다.
+        private long readyAt;
+
+        Partition(int index) {
+            this.index = index;
+            this.executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "stock-actor-" + index);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        String leaseKey() {
+            return LEASE_KEY_PREFIX + index;
+        }
+
+        /**
+         * 담당 파티션이면 lease 를 잡고, 이전 소유자를 기다린 뒤 fencing token 을 올린다.
+         * 기다리는 동안과 lease 가 만료된 뒤에는 false 를 반환한다.
+         */
+        synchronized boolean ensureOwned() {
+            long now = System.nanoTime();
+            if (!owned) {
+                if (!isAssigned(index)) {
+                    return false;
+                }
+
+                boolean acquired = redisLease.tryAcquire(leaseKey(), nodeId, leaseTtl);
+                if (!acquired && redisLease.getOwner(leaseKey()).filter(nodeId::equals).isEmpty()) {
+                    return false;
+                }
+
+                leaseDeadline = now + leaseTtl.toNanos();
+                readyAt = !acquired || isReleased(index) ? now : now + leaseTtl.toNanos();
+                fencingToken = 0L;
+                owned = true;
+            }
+
+            if (now < readyAt) {
+                return false;
+            }
+            if (fencingToken == 0L) {
+                fencingToken = claimFence(index);
+            }
+            return now < leaseDeadline;
+        }
+
+        Result decrease(Long productId, int quantity) {
+            if (!owned || fencingToken == 0L || System.nanoTime() >= leaseDeadline) {
+                return Result.NOT_OWNER;
+            }
+
+            Integer stock = stocks.get(productId);
+            if (stock == null) {
+                Optional<Integer> loaded = loadStock(productId);
+                if (loaded.isEmpty()) {
+                    return Result.NOT_FOUND;
+                }
+                stock = loaded.get();
+            }
+
+            if (stock < quantity) {
+                stocks.put(productId, stock);
+                return Result.INSUFFICIENT;
+            }
+
+            stocks.put(productId, stock - quantity);
+            appendLog(productId, -quantity);
+            return Result.DECREASED;
+        }
+
+        /**
+         * token 을 올린 소유자이면 카운터와 로그에 되돌린다. 카운터가 없으면 DB 재고를 읽어 카운터를 만든 뒤 되돌린다.
+         * 소유자가 아니면 Redis 대기 목록에 쌓아, 파티션을 소유한 노드가 자신의 로그로 반영하게 한다.
+         */
+        void release(Long productId, int quantity) {
+            if (!owned || fencingToken == 0L) {
+                try {
+                    addPendingRelease(index, productId, quantity);
+                } catch (RuntimeException e) {
+                    log.error("재고 복원을 대기 목록에 넣지 못했습니다. partition: {}, productId: {}, quantity: {}", index, productId, quantity, e);
+                }
+                return;
+            }
+
+            Integer stock = stocks.get(productId);
+            if (stock == null) {
+                Optional<Integer> loaded = loadStock(productId);
+                if (loaded.isEmpty()) {
+                    return;
+                }
+                stock = loaded.get();
+            }
+
+            stocks.put(productId, stock + quantity);
+            appendLog(productId, quantity);
+        }
+
+        void appendLog(Long productId, int delta) {
+            deltas.merge(productId, delta, Integer::sum);
+        }
+
+        /**
+         * 반영에 실패한 로그를 되돌린다. 그 사이 소유권이 바뀌었으면 되돌리지 않고 버린다.
+         */
+        void requeue(long token, Long productId, int delta) {
+            if (owned && fencingToken == token) {
+                appendLog(productId, delta);
+                return;
+            }
+            log.error("소유권이 바뀌어 반영하지 못한 재고 변경을 버립니다. partition: {}, productId: {}, delta: {}", index, productId, delta);
+        }
+
+        Flush drainLog() {
+            Map<Long, Integer> drained = new HashMap<>(deltas);
+            deltas.clear();
+            drained.values().removeIf(delta -> delta == 0);
+            return new Flush(fencingToken, drained);
+        }
+
+        synchronized Flush relinquish() {
+            Flush flush = drainLog();
+            owned = false;
+            fencingToken = 0L;
+            stocks.clear();
+            return flush;
+        }
+
+        <T> T call(Callable<T> task) {
+            try {
+                return executor.submit(task).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+}
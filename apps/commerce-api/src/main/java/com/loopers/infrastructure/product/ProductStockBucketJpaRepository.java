@@ -0,0 +1,54 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductStockBucket;
+import jakarta.persistence.LockModeType;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ProductStockBucketJpaRepository extends JpaRepository<ProductStockBucket, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM ProductStockBucket b WHERE b.productId = :productId ORDER BY b.bucketNo")
+    List<ProductStockBucket> findAllByProductIdWithLock(@Param("productId") Long productId);
+
+    @Query("""
+        SELECT b.bucketNo FROM ProductStockBucket b
+        WHERE b.productId = :productId AND b.quantity >= :quantity
+        """)
+    List<Integer> findBucketNosWithQuantity(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("""
+        UPDATE ProductStockBucket b
+        SET b.quantity = b.quantity - :quantity
+        WHERE b.productId = :productId AND b.bucketNo = :bucketNo AND b.quantity >= :quantity
+        """)
+    int decreaseIfAvailable(
+        @Param("productId") Long productId,
+        @Param("bucketNo") int bucketNo,
+        @Param("quantity") int quantity
+    );
+
+    @Modifying
+    @Query("""
+        UPDATE ProductStockBucket b
+        SET b.quantity = b.quantity + :quantity
+        WHERE b.productId = :productId AND b.bucketNo = :bucketNo
+        """)
+    int increase(
+        @Param("productId") Long productId,
+        @Param("bucketNo") int bucketNo,
+        @Param("quantity") int quantity
+    );
+
+    @Query("SELECT COALESCE(SUM(b.quantity), 0) FROM ProductStockBucket b WHERE b.productId = :productId")
+    long sumQuantityByProductId(@Param("productId") Long productId);
+
+    @Modifying
+    @Query("DELETE FROM ProductStockBucket b WHERE b.productId = :productId")
+    void deleteAllByProductId(@Param("productId") Long productId);
+}
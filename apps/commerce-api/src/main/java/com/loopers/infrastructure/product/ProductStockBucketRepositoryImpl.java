@@ -0,0 +1,49 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductStockBucket;
+import com.loopers.domain.product.ProductStockBucketRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ProductStockBucketRepositoryImpl implements ProductStockBucketRepository {
+
+    private final ProductStockBucketJpaRepository productStockBucketJpaRepository;
+
+    @Override
+    public List<ProductStockBucket> saveAll(List<ProductStockBucket> buckets) {
+        return productStockBucketJpaRepository.saveAll(buckets);
+    }
+
+    @Override
+    public List<ProductStockBucket> findAllByProductIdWithLock(Long productId) {
+        return productStockBucketJpaRepository.findAllByProductIdWithLock(productId);
+    }
+
+    @Override
+    public List<Integer> findBucketNosWithQuantity(Long productId, int quantity) {
+        return productStockBucketJpaRepository.findBucketNosWithQuantity(productId, quantity);
+    }
+
+    @Override
+    public int decreaseIfAvailable(Long productId, int bucketNo, int quantity) {
+        return productStockBucketJpaRepository.decreaseIfAvailable(productId, bucketNo, quantity);
+    }
+
+    @Override
+    public void increase(Long productId, int bucketNo, int quantity) {
+        productStockBucketJpaRepository.increase(productId, bucketNo, quantity);
+    }
+
+    @Override
+    public long sumQuantityByProductId(Long productId) {
+        return productStockBucketJpaRepository.sumQuantityByProductId(productId);
+    }
+
+    @Override
+    public void deleteAllByProductId(Long productId) {
+        productStockBucketJpaRepository.deleteAllByProductId(productId);
+    }
+}
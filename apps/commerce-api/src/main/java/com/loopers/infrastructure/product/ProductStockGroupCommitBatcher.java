@@ -0,0 +1,224 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductStockBatcher;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상품별 큐에 차감 요청을 모았다가 max-delay 가 지나거나 max-batch-size 만큼 쌓이면 한 번에 반영한다.
+ * 한 상품의 큐는 한 번에 하나의 작업자만 비우므로, 같은 행에 대한 트랜잭션이 서로 기다리지 않는다.
+ * max-delay 를 늘리면 배치가 커져 커밋 수가 줄지만 요청당 대기 시간이 늘어난다.
+ *
+ * 요청한 쪽은 주문 트랜잭션의 커넥션을 잡은 채 결과를 기다린다. 배치 반영이 같은 풀에서 커넥션을 얻으면
+ * 대기자가 풀을 모두 차지했을 때 배치가 돌지 못하고 전부 시간 초과되므로, 작업자 수만큼의 전용 풀을 따로 쓴다.
+ * 결과를 기다리는 요청 수도 max-in-flight 로 제한해, 대기자가 메인 풀을 모두 차지하지 않게 한다.
+ */
+@Slf4j
+@Component
+public class ProductStockGroupCommitBatcher implements ProductStockBatcher {
+
+    private final HikariConfig mainHikariConfig;
+    private final DistributionSummary batchSizeSummary;
+    private final ConcurrentMap<Long, ProductQueue> queues = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    @Value("${product.stock.group-commit.max-batch-size:100}")
+    private int maxBatchSize;
+
+    @Value("${product.stock.group-commit.max-delay:5ms}")
+    private Duration maxDelay;
+
+    @Value("${product.stock.group-commit.workers:4}")
+    private int workers;
+
+    @Value("${product.stock.group-commit.max-in-flight:30}")
+    private int maxInFlight;
+
+    private ScheduledExecutorService executor;
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    public ProductStockGroupCommitBatcher(
+        @Qualifier("mySqlMainHikariConfig") HikariConfig mainHikariConfig,
+        MeterRegistry meterRegistry
+    ) {
+        this.mainHikariConfig = mainHikariConfig;
+        this.batchSizeSummary = DistributionSummary.builder("product.stock.group_commit.batch.size")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        HikariConfig hikariConfig = new HikariConfig();
+        mainHikariConfig.copyStateTo(hikariConfig);
+        hikariConfig.setPoolName("mysql-stock-batch-pool");
+        hikariConfig.setMaximumPoolSize(workers);
+        hikariConfig.setMinimumIdle(workers);
+        this.dataSource = new HikariDataSource(hikariConfig);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newScheduledThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "stock-group-commit-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdown();
+        dataSource.close();
+    }
+
+    @Override
+    public CompletableFuture<Result> decrease(Long productId, int quantity) {
+        if (inFlight.incrementAndGet() > maxInFlight) {
+            inFlight.decrementAndGet();
+            return CompletableFuture.completedFuture(Result.BUSY);
+        }
+
+        Request request = new Request(quantity, new CompletableFuture<>());
+        request.future.whenComplete((result, e) -> inFlight.decrementAndGet());
+        ProductQueue queue = queues.computeIfAbsent(productId, id -> new ProductQueue());
+
+        queue.requests.add(request);
+        if (queue.pending.incrementAndGet() >= maxBatchSize) {
+            executor.execute(() -> drain(productId, queue));
+        } else if (queue.scheduled.compareAndSet(false, true)) {
+            executor.schedule(() -> drain(productId, queue), maxDelay.toNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        return request.future;
+    }
+
+    @Override
+    public void restore(Long productId, int quantity) {
+        jdbcTemplate.update("UPDATE product SET stock_quantity = stock_quantity + ? WHERE id = ?", quantity, productId);
+    }
+
+    private void drain(Long productId, ProductQueue queue) {
+        if (!queue.draining.tryLock()) {
+            return;
+        }
+
+        try {
+            List<Request> batch;
+            while (!(batch = poll(queue)).isEmpty()) {
+                apply(productId, batch);
+            }
+        } finally {
+            queue.draining.unlock();
+        }
+
+        queue.scheduled.set(false);
+        if (!queue.requests.isEmpty() && queue.scheduled.compareAndSet(false, true)) {
+            executor.execute(() -> drain(productId, queue));
+        }
+    }
+
+    private List<Request> poll(ProductQueue queue) {
+        List<Request> batch = new ArrayList<>();
+        Request request;
+        while (batch.size() < maxBatchSize && (request = queue.requests.poll()) != null) {
+            batch.add(request);
+        }
+        queue.pending.addAndGet(-batch.size());
+        return batch;
+    }
+
+    private void apply(Long productId, List<Request> batch) {
+        batchSizeSummary.record(batch.size());
+
+        List<Result> results;
+        try {
+            results = transactionTemplate.execute(status -> allocate(productId, batch));
+        } catch (RuntimeException e) {
+            log.warn("재고 일괄 차감 실패. productId: {}, batchSize: {}", productId, batch.size(), e);
+            batch.forEach(request -> request.future.completeExceptionally(e));
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).future.complete(results.get(i));
+        }
+    }
+
+    /**
+     * 전체 수량이 남아 있으면 조건부 UPDATE 한 번으로 끝낸다.
+     * 부족하면 행을 잠그고 도착 순서대로 배정할 수 있는 요청만 골라 남은 재고를 한 번에 기록한다.
+     */
+    private List<Result> allocate(Long productId, List<Request> batch) {
+        int total = batch.stream().mapToInt(Request::quantity).sum();
+        int decreased = jdbcTemplate.update(
+            "UPDATE product SET stock_quantity = stock_quantity - ? WHERE id = ? AND stock_quantity >= ?",
+            total, productId, total
+        );
+        if (decreased > 0) {
+            return batch.stream().map(request -> Result.DECREASED).toList();
+        }
+
+        List<Integer> stock = jdbcTemplate.queryForList(
+            "SELECT stock_quantity FROM product WHERE id = ? FOR UPDATE",
+            Integer.class,
+            productId
+        );
+        if (stock.isEmpty()) {
+            return batch.stream().map(request -> Result.NOT_FOUND).toList();
+        }
+
+        int current = stock.get(0);
+        int remaining = current;
+        List<Result> results = new ArrayList<>(batch.size());
+        for (Request request : batch) {
+            if (request.quantity() <= remaining) {
+                remaining -= request.quantity();
+                results.add(Result.DECREASED);
+            } else {
+                results.add(Result.INSUFFICIENT);
+            }
+        }
+
+        if (remaining != current) {
+            jdbcTemplate.update("UPDATE product SET stock_quantity = ? WHERE id = ?", remaining, productId);
+        }
+        return results;
+    }
+
+    private record Request(int quantity, CompletableFuture<Result> future) {
+    }
+
+    private static class ProductQueue {
+        private final Queue<Request> requests = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final ReentrantLock draining = new ReentrantLock();
+    }
+}
@@ -0,0 +1,16 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductStockPartitionFence;
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ProductStockPartitionFenceJpaRepository extends JpaRepository<ProductStockPartitionFence, Integer> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT f FROM ProductStockPartitionFence f WHERE f.partitionNo = :partitionNo")
+    Optional<ProductStockPartitionFence> findByPartitionNoWithLock(@Param("partitionNo") Integer partitionNo);
+}
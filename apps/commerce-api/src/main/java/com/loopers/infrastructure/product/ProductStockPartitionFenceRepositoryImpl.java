@@ -0,0 +1,29 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductStockPartitionFence;
+import com.loopers.domain.product.ProductStockPartitionFenceRepository;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ProductStockPartitionFenceRepositoryImpl implements ProductStockPartitionFenceRepository {
+
+    private final ProductStockPartitionFenceJpaRepository productStockPartitionFenceJpaRepository;
+
+    @Override
+    public ProductStockPartitionFence save(ProductStockPartitionFence fence) {
+        return productStockPartitionFenceJpaRepository.save(fence);
+    }
+
+    @Override
+    public Optional<ProductStockPartitionFence> findByPartitionNo(int partitionNo) {
+        return productStockPartitionFenceJpaRepository.findById(partitionNo);
+    }
+
+    @Override
+    public Optional<ProductStockPartitionFence> findByPartitionNoWithLock(int partitionNo) {
+        return productStockPartitionFenceJpaRepository.findByPartitionNoWithLock(partitionNo);
+    }
+}
@@ -0,0 +1,66 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductStockReservation;
+import com.loopers.redis.inventory.RedisInventoryGate;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductStockRedisReservation implements ProductStockReservation {
+
+    private static final String NAMESPACE = "product";
+
+    private final RedisInventoryGate inventoryGate;
+
+    @Override
+    public Result reserve(Long productId, int quantity) {
+        long result = inventoryGate.reserve(NAMESPACE, String.valueOf(productId), quantity);
+
+        if (result == RedisInventoryGate.NOT_INITIALIZED) {
+            return Result.NOT_INITIALIZED;
+        }
+        if (result == RedisInventoryGate.INSUFFICIENT) {
+            return Result.INSUFFICIENT;
+        }
+        return Result.RESERVED;
+    }
+
+    @Override
+    public void release(Long productId, int quantity) {
+        try {
+            if (inventoryGate.release(NAMESPACE, String.valueOf(productId), quantity) == RedisInventoryGate.NOT_INITIALIZED) {
+                log.warn("예약 재고가 없어 해제하지 못했습니다. productId: {}, quantity: {}", productId, quantity);
+            }
+        } catch (RuntimeException e) {
+            log.error("예약 재고 해제 실패. productId: {}, quantity: {}", productId, quantity, e);
+        }
+    }
+
+    @Override
+    public void initialize(Long productId, int stockQuantity) {
+        inventoryGate.initialize(NAMESPACE, String.valueOf(productId), stockQuantity);
+    }
+
+    @Override
+    public Optional<Integer> getStock(Long productId) {
+        return inventoryGate.get(NAMESPACE, String.valueOf(productId))
+            .map(Long::intValue);
+    }
+
+    @Override
+    public List<Long> popChanged(int count) {
+        return inventoryGate.popDirty(NAMESPACE, count).stream()
+            .map(Long::valueOf)
+            .toList();
+    }
+
+    @Override
+    public void markChanged(Long productId) {
+        inventoryGate.markDirty(NAMESPACE, String.valueOf(productId));
+    }
+}
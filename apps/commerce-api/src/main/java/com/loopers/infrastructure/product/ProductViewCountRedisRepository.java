@@ -0,0 +1,80 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.ProductViewCountRepository;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일별 상품 조회 수를 product:view:{yyyyMMdd} 해시에 상품 ID 를 필드로 보관한다.
+ * 조회는 replica 우선 템플릿으로, 쓰기는 master 템플릿으로 수행한다.
+ */
+@Slf4j
+@Component
+public class ProductViewCountRedisRepository implements ProductViewCountRepository {
+
+    private static final String KEY_PREFIX = "product:view:";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final Duration ttl;
+
+    public ProductViewCountRedisRepository(
+        RedisTemplate<String, String> redisTemplate,
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+        @Value("${product.view.count-ttl:8d}") Duration ttl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 상품 수만큼의 HINCRBY 와 EXPIRE 를 파이프라인 한 번으로 보낸다.
+     * 조회 수는 부가 지표이므로 Redis 장애 시 해당 배치는 버린다.
+     */
+    @Override
+    public void increaseAll(Map<Long, Long> counts, LocalDate date) {
+        String key = key(date);
+        try {
+            masterRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> redisOperations = (RedisOperations<String, String>) operations;
+                    counts.forEach((productId, count) ->
+                        redisOperations.opsForHash().increment(key, String.valueOf(productId), count));
+                    redisOperations.expire(key, ttl);
+                    return null;
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("상품 조회 수 반영 실패. products: {}", counts.size(), e);
+        }
+    }
+
+    @Override
+    public long get(Long productId, LocalDate date) {
+        try {
+            Object count = redisTemplate.opsForHash().get(key(date), String.valueOf(productId));
+            return count != null ? Long.parseLong(count.toString()) : 0;
+        } catch (RuntimeException e) {
+            log.warn("상품 조회 수 조회 실패. productId: {}", productId, e);
+            return 0;
+        }
+    }
+
+    private String key(LocalDate date) {
+        return KEY_PREFIX + date.format(DATE_FORMAT);
+    }
+}
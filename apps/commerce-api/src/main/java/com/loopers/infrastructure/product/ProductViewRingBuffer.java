@@ -0,0 +1,86 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductViewBuffer;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조회 이벤트(상품 ID)를 담는 고정 크기 링 버퍼.
+ * 여러 요청 스레드가 락 없이 CAS 로 슬롯을 예약해 넣고, 슬롯마다 둔 시퀀스로 쓰기 완료를 소비자에게 알린다.
+ * 소비자는 하나만 동작하도록 drainTo 를 직렬화한다.
+ * 가득 차면 기다리지 않고 버린 뒤 버린 수만 센다.
+ */
+@Component
+public class ProductViewRingBuffer implements ProductViewBuffer {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final AtomicLongArray productIds;
+    private final AtomicLong enqueuePosition = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private long dequeuePosition;
+
+    public ProductViewRingBuffer(@Value("${product.view.buffer-capacity:65536}") int requestedCapacity) {
+        this.capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.mask = capacity - 1;
+        this.sequences = new AtomicLongArray(capacity);
+        this.productIds = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    @Override
+    public boolean offer(Long productId) {
+        long position = enqueuePosition.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+
+            if (difference == 0) {
+                if (enqueuePosition.compareAndSet(position, position + 1)) {
+                    productIds.set(index, productId);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = enqueuePosition.get();
+            } else if (difference < 0) {
+                dropped.increment();
+                return false;
+            } else {
+                position = enqueuePosition.get();
+            }
+        }
+    }
+
+    @Override
+    public synchronized int drainTo(Map<Long, Long> counts, int maxEvents) {
+        int drained = 0;
+        while (drained < maxEvents) {
+            int index = (int) (dequeuePosition & mask);
+            if (sequences.get(index) != dequeuePosition + 1) {
+                break;
+            }
+
+            counts.merge(productIds.get(index), 1L, Long::sum);
+            sequences.set(index, dequeuePosition + capacity);
+            dequeuePosition++;
+            drained++;
+        }
+        return drained;
+    }
+
+    @Override
+    public long takeDroppedCount() {
+        return dropped.sumThenReset();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,171 @@
+package com.loopers.infrastructure.ranking;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.ranking.RankedProduct;
+import com.loopers.domain.ranking.RankingRepository;
+import com.loopers.domain.ranking.RankingWindow;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 구간별 랭킹을 ranking:hourly:{yyyyMMddHH}, ranking:daily:{yyyyMMdd} ZSET 에 상품 ID 를 멤버로 보관한다.
+ * 조회는 replica 우선 템플릿으로, 쓰기는 master 템플릿으로 수행한다.
+ * 랭킹은 부가 기능이므로 Redis 장애 시 쓰기는 버리고 조회는 빈 랭킹으로 응답한다.
+ */
+@Slf4j
+@Component
+public class RankingRedisRepository implements RankingRepository {
+
+    private static final String KEY_PREFIX = "ranking:";
+    private static final DateTimeFormatter HOURLY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final DateTimeFormatter DAILY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private static final String CARRY_OVER_MARKER_PREFIX = "ranking:carry-over:";
+
+    /*
+     * 이월 표시(SET NX)와 ZUNIONSTORE 를 한 스크립트로 묶어, 여러 인스턴스가 같은 시각에 실행하거나
+     * 재시작·재시도로 다시 실행되어도 구간마다 한 번만 이월된다.
+     * KEYS[1] = 이월 표시, KEYS[2] = 다음 구간, KEYS[3] = 현재 구간
+     * ARGV[1] = 이월 비율, ARGV[2] = 다음 구간 TTL(ms)
+     */
+    private static final RedisScript<Long> CARRY_OVER_ONCE = new DefaultRedisScript<>(
+        """
+        if not redis.call('SET', KEYS[1], '1', 'NX', 'PX', ARGV[2]) then
+            return 0
+        end
+        redis.call('ZUNIONSTORE', KEYS[2], 2, KEYS[2], KEYS[3], 'WEIGHTS', 1, ARGV[1])
+        redis.call('PEXPIRE', KEYS[2], ARGV[2])
+        return 1
+        """,
+        Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final Duration hourlyTtl;
+    private final Duration dailyTtl;
+
+    public RankingRedisRepository(
+        RedisTemplate<String, String> redisTemplate,
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+        @Value("${ranking.ttl.hourly:2d}") Duration hourlyTtl,
+        @Value("${ranking.ttl.daily:7d}") Duration dailyTtl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.hourlyTtl = hourlyTtl;
+        this.dailyTtl = dailyTtl;
+    }
+
+    /**
+     * 상품 수만큼의 ZINCRBY 와 구간별 EXPIRE 를 파이프라인 한 번으로 보낸다.
+     */
+    @Override
+    public void incrementScores(Map<Long, Double> scores, LocalDateTime at) {
+        try {
+            masterRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> redisOperations = (RedisOperations<String, String>) operations;
+                    for (RankingWindow window : RankingWindow.values()) {
+                        String key = key(window, at);
+                        scores.forEach((productId, score) ->
+                            redisOperations.opsForZSet().incrementScore(key, String.valueOf(productId), score));
+                        redisOperations.expire(key, ttlOf(window));
+                    }
+                    return null;
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("랭킹 점수 반영 실패. products: {}", scores.keySet(), e);
+        }
+    }
+
+    @Override
+    public List<RankedProduct> findRange(RankingWindow window, LocalDateTime at, long offset, int size) {
+        if (offset < 0 || size < 1) {
+            return List.of();
+        }
+
+        try {
+            Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+                .reverseRangeWithScores(key(window, at), offset, offset + size - 1);
+            if (tuples == null) {
+                return List.of();
+            }
+
+            List<RankedProduct> ranked = new ArrayList<>(tuples.size());
+            long rank = offset;
+            for (TypedTuple<String> tuple : tuples) {
+                ranked.add(new RankedProduct(
+                    Long.valueOf(tuple.getValue()),
+                    ++rank,
+                    tuple.getScore() != null ? tuple.getScore() : 0
+                ));
+            }
+            return ranked;
+        } catch (RuntimeException e) {
+            log.warn("랭킹 조회 실패. window: {}, at: {}", window, at, e);
+            return List.of();
+        }
+    }
+
+    @Override
+    public long count(RankingWindow window, LocalDateTime at) {
+        try {
+            Long count = redisTemplate.opsForZSet().zCard(key(window, at));
+            return count != null ? count : 0;
+        } catch (RuntimeException e) {
+            log.warn("랭킹 건수 조회 실패. window: {}, at: {}", window, at, e);
+            return 0;
+        }
+    }
+
+    /**
+     * ZUNIONSTORE to 2 to from WEIGHTS 1 weight 로, 이미 to 구간에 쌓인 점수는 유지한 채 이전 구간 점수를 더한다.
+     * ZUNIONSTORE 는 멱등이 아니므로 구간별 이월 표시를 먼저 잡은 실행만 이월한다.
+     */
+    @Override
+    public void carryOver(RankingWindow window, LocalDateTime from, LocalDateTime to, double weight) {
+        String fromKey = key(window, from);
+        String toKey = key(window, to);
+        try {
+            Long carried = masterRedisTemplate.execute(
+                CARRY_OVER_ONCE,
+                List.of(CARRY_OVER_MARKER_PREFIX + fromKey.substring(KEY_PREFIX.length()), toKey, fromKey),
+                String.valueOf(weight),
+                String.valueOf(ttlOf(window).toMillis())
+            );
+            if (carried == null || carried == 0) {
+                log.info("이미 이월된 랭킹 구간입니다. window: {}, from: {}", window, from);
+            }
+        } catch (RuntimeException e) {
+            log.warn("랭킹 점수 이월 실패. window: {}, from: {}, to: {}", window, from, to, e);
+        }
+    }
+
+    private String key(RankingWindow window, LocalDateTime at) {
+        DateTimeFormatter format = window == RankingWindow.HOURLY ? HOURLY_FORMAT : DAILY_FORMAT;
+        return KEY_PREFIX + window.getCode() + ":" + window.startOf(at).format(format);
+    }
+
+    private Duration ttlOf(RankingWindow window) {
+        return window == RankingWindow.HOURLY ? hourlyTtl : dailyTtl;
+    }
+}
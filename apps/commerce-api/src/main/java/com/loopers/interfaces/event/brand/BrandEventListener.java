@@ -0,0 +1,25 @@
+package com.loopers.interfaces.event.brand;
+
+import com.loopers.domain.brand.BrandDictionary;
+import com.loopers.domain.brand.BrandEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class BrandEventListener {
+
+    private final BrandDictionary brandDictionary;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(BrandEvent.Created event) {
+        brandDictionary.refresh(event.brandId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(BrandEvent.Updated event) {
+        brandDictionary.refresh(event.brandId());
+    }
+}
@@ -0,0 +1,45 @@
+package com.loopers.interfaces.event.like;
+
+import com.loopers.application.product.ProductDetailCache;
+import com.loopers.domain.like.LikeCountCache;
+import com.loopers.domain.like.LikeEvent;
+import com.loopers.domain.like.LikeMembershipCache;
+import com.loopers.domain.ranking.RankingService;
+import com.loopers.domain.ranking.RankingSignal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class LikeEventListener {
+
+    private final LikeCountCache likeCountCache;
+    private final LikeMembershipCache likeMembershipCache;
+    private final ProductDetailCache productDetailCache;
+    private final RankingService rankingService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(LikeEvent.Liked event) {
+        likeCountCache.increaseUserLikeCount(event.userId(), 1);
+        likeMembershipCache.add(event.userId(), event.productId());
+        rankingService.record(RankingSignal.LIKE, event.productId(), 1);
+        productDetailCache.evict(event.productId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(LikeEvent.Unliked event) {
+        likeCountCache.increaseUserLikeCount(event.userId(), -1);
+        likeMembershipCache.remove(event.userId(), event.productId());
+        rankingService.record(RankingSignal.LIKE, event.productId(), -1);
+        productDetailCache.evict(event.productId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(LikeEvent.Flushed event) {
+        event.productIds().forEach(productDetailCache::evict);
+        // 반영 전에 likes 테이블에서 적재된 집합에는 버퍼의 상태가 빠져 있을 수 있으므로 다시 적재되게 한다.
+        event.userIds().forEach(likeMembershipCache::evict);
+    }
+}
@@ -0,0 +1,27 @@
+package com.loopers.interfaces.event.order;
+
+import com.loopers.domain.order.OrderEvent;
+import com.loopers.domain.ranking.RankingService;
+import com.loopers.domain.ranking.RankingSignal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class OrderEventListener {
+
+    private final RankingService rankingService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(OrderEvent.PaymentCompleted event) {
+        Map<Long, Long> quantities = event.quantities().entrySet().stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().longValue()));
+
+        rankingService.record(RankingSignal.ORDER, quantities, LocalDateTime.now());
+    }
+}
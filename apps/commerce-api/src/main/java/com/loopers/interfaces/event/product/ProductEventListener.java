@@ -0,0 +1,28 @@
+package com.loopers.interfaces.event.product;
+
+import com.loopers.application.product.ProductDetailCache;
+import com.loopers.domain.product.ProductCountCache;
+import com.loopers.domain.product.ProductEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class ProductEventListener {
+
+    private final ProductCountCache productCountCache;
+    private final ProductDetailCache productDetailCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(ProductEvent.Created event) {
+        productCountCache.increaseTotalCount(1);
+        productCountCache.increaseBrandCount(event.brandId(), 1);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(ProductEvent.StockChanged event) {
+        productDetailCache.evict(event.productId());
+    }
+}
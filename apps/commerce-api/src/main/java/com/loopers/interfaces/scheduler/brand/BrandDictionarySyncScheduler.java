@@ -0,0 +1,21 @@
+package com.loopers.interfaces.scheduler.brand;
+
+import com.loopers.domain.brand.BrandDictionary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 인스턴스에서 생성/수정된 브랜드를 주기적으로 브랜드 사전에 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BrandDictionarySyncScheduler {
+
+    private final BrandDictionary brandDictionary;
+
+    @Scheduled(fixedDelayString = "${brand.dictionary.sync-interval:5s}")
+    public void sync() {
+        brandDictionary.sync();
+    }
+}
@@ -0,0 +1,34 @@
+package com.loopers.interfaces.scheduler.like;
+
+import com.loopers.domain.like.LikeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 버퍼에 기록된 좋아요/취소(WRITE_BEHIND 모드)를 likes 테이블에 주기적으로 반영한다.
+ * 같은 상품에 좋아요가 몰려도 반영 주기마다 배치 단위 트랜잭션 하나로 처리된다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LikeBufferFlushScheduler {
+
+    private final LikeService likeService;
+
+    @Value("${like.write-behind.batch-size:1000}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${like.write-behind.flush-interval:1s}")
+    public void flush() {
+        int flushed;
+        do {
+            flushed = likeService.flushBuffered(batchSize);
+            if (flushed > 0) {
+                log.debug("좋아요 버퍼 반영. flushed: {}", flushed);
+            }
+        } while (flushed == batchSize);
+    }
+}
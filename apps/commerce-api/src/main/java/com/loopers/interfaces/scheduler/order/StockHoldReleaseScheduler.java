@@ -0,0 +1,31 @@
+package com.loopers.interfaces.scheduler.order;
+
+import com.loopers.application.order.StockHoldFacade;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제가 실패했거나 보유 시간 안에 결제되지 않은 주문의 재고를 주기적으로 되돌린다.
+ * 만료된 보유 재고가 남아 있는 동안 배치 단위로 반복하며, 배치마다 별도 트랜잭션으로 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockHoldReleaseScheduler {
+
+    private final StockHoldFacade stockHoldFacade;
+
+    @Value("${order.stock-hold.release-batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${order.stock-hold.release-interval:30s}")
+    public void release() {
+        int released;
+        do {
+            released = stockHoldFacade.releaseExpiredHolds(batchSize);
+        } while (released == batchSize);
+    }
+}
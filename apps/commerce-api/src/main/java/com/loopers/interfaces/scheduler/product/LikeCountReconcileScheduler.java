@@ -0,0 +1,36 @@
+package com.loopers.interfaces.scheduler.product;
+
+import com.loopers.domain.product.ProductService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * product.like_count 가 likes 테이블과 어긋난 경우를 주기적으로 보정한다.
+ * 상품 ID 구간 단위로 나누어 처리하여 한 번에 잡는 락 범위를 제한한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LikeCountReconcileScheduler {
+
+    private final ProductService productService;
+
+    @Value("${product.like-count.reconcile.chunk-size:1000}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${product.like-count.reconcile.cron:0 0 4 * * *}")
+    public void reconcile() {
+        long maxId = productService.getMaxId();
+        long reconciled = 0;
+
+        for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            long toId = Math.min(fromId + chunkSize - 1, maxId);
+            reconciled += productService.reconcileLikeCounts(fromId, toId);
+        }
+
+        log.info("좋아요 수 보정 완료. maxProductId: {}, reconciled: {}", maxId, reconciled);
+    }
+}
@@ -0,0 +1,36 @@
+package com.loopers.interfaces.scheduler.product;
+
+import com.loopers.domain.product.ProductViewService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조회 이벤트 버퍼를 주기적으로 비워 상품별 조회 수와 랭킹에 반영한다.
+ * 버퍼가 가득 차 버려진 이벤트가 있으면 그 수를 남긴다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductViewFlushScheduler {
+
+    private final ProductViewService productViewService;
+
+    @Value("${product.view.batch-size:10000}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${product.view.flush-interval:1s}")
+    public void flush() {
+        int flushed;
+        do {
+            flushed = productViewService.flush(batchSize);
+        } while (flushed == batchSize);
+
+        long dropped = productViewService.takeDroppedCount();
+        if (dropped > 0) {
+            log.warn("조회 이벤트 버퍼가 가득 차 이벤트를 버렸습니다. dropped: {}", dropped);
+        }
+    }
+}
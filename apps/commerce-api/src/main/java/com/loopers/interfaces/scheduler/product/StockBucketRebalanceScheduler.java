@@ -0,0 +1,31 @@
+package com.loopers.interfaces.scheduler.product;
+
+import com.loopers.domain.product.ProductStockShardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 분할 모드 상품의 버킷 수량을 주기적으로 고르게 재분배한다.
+ * 한쪽 버킷만 소진되어 여러 버킷을 한꺼번에 잠그는 경로로 빠지는 일을 줄이고,
+ * 목록 조회에 쓰이는 product.stock_quantity 를 버킷 합계로 갱신한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockBucketRebalanceScheduler {
+
+    private final ProductStockShardService productStockShardService;
+
+    @Scheduled(fixedDelayString = "${product.stock.bucket.rebalance-interval:10s}")
+    public void rebalance() {
+        for (Long productId : productStockShardService.getShardedProductIds()) {
+            try {
+                productStockShardService.rebalance(productId);
+            } catch (RuntimeException e) {
+                log.warn("재고 버킷 재분배 실패. productId: {}", productId, e);
+            }
+        }
+    }
+}
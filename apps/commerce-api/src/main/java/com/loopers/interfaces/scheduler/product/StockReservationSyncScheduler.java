@@ -0,0 +1,37 @@
+package com.loopers.interfaces.scheduler.product;
+
+import com.loopers.domain.product.ProductService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 예약 재고(REDIS_RESERVATION 모드)를 product.stock_quantity 로 주기적으로 반영한다.
+ * 바뀐 상품이 남아 있는 동안 배치 단위로 반복한다.
+ * 다른 차감 방식에서는 반영할 예약이 없으므로 등록하지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "product.stock.decrease-mode", havingValue = "REDIS_RESERVATION")
+@RequiredArgsConstructor
+@Slf4j
+public class StockReservationSyncScheduler {
+
+    private final ProductService productService;
+
+    @Value("${product.stock.reservation.sync-batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${product.stock.reservation.sync-interval:1s}")
+    public void sync() {
+        int synced;
+        do {
+            synced = productService.syncReservedStocks(batchSize);
+            if (synced > 0) {
+                log.debug("예약 재고 동기화. synced: {}", synced);
+            }
+        } while (synced == batchSize);
+    }
+}
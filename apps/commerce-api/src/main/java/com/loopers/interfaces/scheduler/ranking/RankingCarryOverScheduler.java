@@ -0,0 +1,31 @@
+package com.loopers.interfaces.scheduler.ranking;
+
+import com.loopers.domain.ranking.RankingService;
+import com.loopers.domain.ranking.RankingWindow;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 구간이 바뀌기 직전에 현재 구간 점수의 일부를 다음 구간 랭킹에 미리 옮겨 둔다.
+ * 새 구간이 빈 랭킹으로 시작하지 않고, 이전 구간의 인기는 이월 비율만큼 감쇠되어 반영된다.
+ * 이월 이후 구간이 끝날 때까지 들어온 신호는 이월되지 않는다.
+ * 모든 인스턴스가 실행하지만 구간별 이월 표시를 먼저 잡은 한 번만 반영된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RankingCarryOverScheduler {
+
+    private final RankingService rankingService;
+
+    @Scheduled(cron = "${ranking.carry-over.hourly-cron:0 50 * * * *}")
+    public void carryOverHourly() {
+        rankingService.carryOverToNext(RankingWindow.HOURLY, LocalDateTime.now());
+    }
+
+    @Scheduled(cron = "${ranking.carry-over.daily-cron:0 50 23 * * *}")
+    public void carryOverDaily() {
+        rankingService.carryOverToNext(RankingWindow.DAILY, LocalDateTime.now());
+    }
+}
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -106,7 +107,7 @@ public class LikeFacadeIntegrationTest {
             // then
             verify(userRepository, times(1)).findByUserId(userId);
             verify(productRepository, times(1)).findById(product.getId());
-            verify(likeService, times(1)).isLiked(userId, product.getId());
+            verify(likeService, never()).isLiked(userId, product.getId());
             verify(likeService, times(1)).like(userId, product.getId());
             verify(likeService, times(1)).countByProduct(product.getId());
 
@@ -147,8 +148,8 @@ public class LikeFacadeIntegrationTest {
             LikeInfo.Like result = likeFacade.addLike(command);
 
             // then
-            verify(likeService, times(2)).isLiked(userId, product.getId());
-            verify(likeService, times(1)).like(userId, product.getId());
+            verify(likeService, never()).isLiked(userId, product.getId());
+            verify(likeService, times(2)).like(userId, product.getId());
             verify(likeService, times(2)).countByProduct(product.getId());
 
             assertAll(
@@ -159,6 +160,43 @@ public class LikeFacadeIntegrationTest {
             );
         }
 
+        @Test
+        @DisplayName("쓰기 지연 모드에서는 likes 를 집계하지 않고 상품의 좋아요 수에 이번 변경을 더해 응답한다")
+        void addLike_writeBehind_doesNotCountLikes() {
+            // given
+            Brand brand = brandService.create("brand1", "description1");
+
+            Product product = productService.create(
+                "product1",
+                Money.of(10000L),
+                Quantity.of(100),
+                brand.getId()
+            );
+
+            String userId = "user1";
+            userService.signUp(
+                userId,
+                "사용자1",
+                Gender.M,
+                "abc@gmail.com",
+                "1995-03-01"
+            );
+            doReturn(true).when(likeService).isWriteBehind();
+
+            LikeCommand.Add command = new LikeCommand.Add(userId, product.getId());
+
+            // when
+            LikeInfo.Like result = likeFacade.addLike(command);
+
+            // then
+            verify(likeService, never()).countByProduct(product.getId());
+
+            assertAll(
+                () -> assertThat(result.isLiked()).isTrue(),
+                () -> assertThat(result.likeCount()).isEqualTo(1)
+            );
+        }
+
         @Test
         @DisplayName("존재하지 않는 사용자 ID로 좋아요 등록 시 실패한다")
         void fail_whenUserNotExists() {
@@ -293,8 +331,8 @@ public class LikeFacadeIntegrationTest {
             LikeInfo.Like result = likeFacade.removeLike(command);
 
             // then
-            verify(likeService, times(1)).isLiked(userId, product.getId());
-            verify(likeService, never()).unlike(userId, product.getId());
+            verify(likeService, never()).isLiked(userId, product.getId());
+            verify(likeService, times(1)).unlike(userId, product.getId());
             verify(likeService, times(1)).countByProduct(product.getId());
 
             assertAll(
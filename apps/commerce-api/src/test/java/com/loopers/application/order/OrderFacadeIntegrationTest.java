@@ -18,6 +18,7 @@ import com.loopers.domain.coupon.FixedAmountCoupon;
 import com.loopers.domain.order.OrderRepository;
 import com.loopers.domain.order.OrderService;
 import com.loopers.domain.order.OrderStatus;
+import com.loopers.domain.order.StockHoldService;
 import com.loopers.domain.order.external.ExternalOrderService;
 import com.loopers.domain.point.PointRepository;
 import com.loopers.domain.point.PointService;
@@ -89,6 +90,12 @@ public class OrderFacadeIntegrationTest {
     @MockitoSpyBean
     private CouponService couponService;
 
+    @Autowired
+    private StockHoldFacade stockHoldFacade;
+
+    @Autowired
+    private StockHoldService stockHoldService;
+
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
 
@@ -151,6 +158,38 @@ public class OrderFacadeIntegrationTest {
             );
         }
 
+        @Test
+        @DisplayName("같은 상품이 여러 줄로 들어오면 하나의 주문 항목으로 합쳐 재고를 차감한다")
+        void createOrder_mergesDuplicateItems() {
+            // given
+            String userId = "user1";
+            userService.signUp(userId, "사용자1", Gender.M, "abc@gmail.com", "1995-03-01");
+            pointService.charge(userId, 50000L);
+
+            Brand brand1 = brandService.create("brand1", "description1");
+            Product product1 = productService.create("product1", Money.of(10000L), Quantity.of(100), brand1.getId());
+
+            List<OrderItemCommand.Create> items = List.of(
+                new OrderItemCommand.Create(product1.getId(), Quantity.of(1)),
+                new OrderItemCommand.Create(product1.getId(), Quantity.of(2))
+            );
+
+            OrderCommand.Create command = new OrderCommand.Create(userId, items, null);
+
+            // when
+            OrderInfo.Detail result = orderFacade.createOrder(command);
+
+            // then
+            Product updatedProduct = productService.get(product1.getId());
+
+            assertAll(
+                () -> assertThat(result.items()).hasSize(1),
+                () -> assertThat(result.items().get(0).quantity()).isEqualTo(Quantity.of(3)),
+                () -> assertThat(result.totalPrice()).isEqualTo(Money.of(30000L)),
+                () -> assertThat(updatedProduct.getStockQuantity()).isEqualTo(Quantity.of(97))
+            );
+        }
+
         @Test
         @DisplayName("쿠폰 적용하여 주문 생성이 성공한다")
         void createOrder_withCoupon() {
@@ -411,12 +450,13 @@ public class OrderFacadeIntegrationTest {
 
             // then
             verify(userRepository, times(3)).findByUserId(userId); // 생성 2번, 조회 1번
-            verify(orderRepository, times(1)).findByUserIdOrderByOrderedAtDesc(userId);
+            verify(orderRepository, times(1)).findSummariesByUserId(userId);
 
             assertAll(
                 () -> assertThat(result).isNotNull(),
                 () -> assertThat(result.orders()).hasSize(2),
                 () -> assertThat(result.orders().get(0).totalPrice()).isEqualTo(Money.of(40000L)),
+                () -> assertThat(result.orders().get(0).itemCount()).isEqualTo(1),
                 () -> assertThat(result.orders().get(1).totalPrice()).isEqualTo(Money.of(10000L))
             );
         }
@@ -459,4 +499,95 @@ public class OrderFacadeIntegrationTest {
             verify(userRepository, times(1)).findByUserId(nonExistentUserId);
         }
     }
+
+    @DisplayName("보유 재고 반환")
+    @Nested
+    class ReleaseExpiredHolds {
+
+        @Test
+        @DisplayName("만료된 보유 재고는 상품 재고로 되돌리고, 결제 대기 중인 주문은 취소한다")
+        void releasesExpiredHolds() {
+            // given
+            String userId = "user1";
+            userService.signUp(userId, "사용자1", Gender.M, "abc@gmail.com", "1995-03-01");
+
+            Brand brand1 = brandService.create("brand1", "description1");
+            Product product1 = productService.create("product1", Money.of(10000L), Quantity.of(100), brand1.getId());
+
+            OrderInfo.Detail order = orderFacade.createOrder(new OrderCommand.Create(
+                userId,
+                List.of(new OrderItemCommand.Create(product1.getId(), Quantity.of(3))),
+                null
+            ));
+            stockHoldService.expire(order.orderId());
+
+            // when
+            int released = stockHoldFacade.releaseExpiredHolds(100);
+
+            // then
+            assertAll(
+                () -> assertThat(released).isEqualTo(1),
+                () -> assertThat(productService.get(product1.getId()).getStockQuantity()).isEqualTo(Quantity.of(100)),
+                () -> assertThat(orderService.get(order.orderId()).getStatus()).isEqualTo(OrderStatus.CANCELLED)
+            );
+        }
+
+        @Test
+        @DisplayName("확정되었거나 만료되지 않은 보유 재고는 되돌리지 않는다")
+        void keepsConfirmedAndActiveHolds() {
+            // given
+            String userId = "user1";
+            userService.signUp(userId, "사용자1", Gender.M, "abc@gmail.com", "1995-03-01");
+
+            Brand brand1 = brandService.create("brand1", "description1");
+            Product product1 = productService.create("product1", Money.of(10000L), Quantity.of(100), brand1.getId());
+
+            OrderInfo.Detail confirmedOrder = orderFacade.createOrder(new OrderCommand.Create(
+                userId,
+                List.of(new OrderItemCommand.Create(product1.getId(), Quantity.of(3))),
+                null
+            ));
+            stockHoldService.confirm(confirmedOrder.orderId());
+            stockHoldService.expire(confirmedOrder.orderId());
+
+            orderFacade.createOrder(new OrderCommand.Create(
+                userId,
+                List.of(new OrderItemCommand.Create(product1.getId(), Quantity.of(2))),
+                null
+            ));
+
+            // when
+            int released = stockHoldFacade.releaseExpiredHolds(100);
+
+            // then
+            assertAll(
+                () -> assertThat(released).isEqualTo(0),
+                () -> assertThat(productService.get(product1.getId()).getStockQuantity()).isEqualTo(Quantity.of(95))
+            );
+        }
+
+        @Test
+        @DisplayName("보유 재고가 반환된 주문의 결제를 확정하면 예외가 발생한다")
+        void fail_whenConfirmAfterRelease() {
+            // given
+            String userId = "user1";
+            userService.signUp(userId, "사용자1", Gender.M, "abc@gmail.com", "1995-03-01");
+
+            Brand brand1 = brandService.create("brand1", "description1");
+            Product product1 = productService.create("product1", Money.of(10000L), Quantity.of(100), brand1.getId());
+
+            OrderInfo.Detail order = orderFacade.createOrder(new OrderCommand.Create(
+                userId,
+                List.of(new OrderItemCommand.Create(product1.getId(), Quantity.of(3))),
+                null
+            ));
+            stockHoldService.expire(order.orderId());
+            stockHoldFacade.releaseExpiredHolds(100);
+
+            // when & then
+            assertThatThrownBy(() -> stockHoldService.confirm(order.orderId()))
+                .isInstanceOf(CoreException.class)
+                .satisfies(exception -> assertThat(((CoreException) exception).getErrorType()).isEqualTo(ErrorType.CONFLICT));
+        }
+    }
 }
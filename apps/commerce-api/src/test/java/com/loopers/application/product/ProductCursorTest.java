@@ -0,0 +1,38 @@
+package com.loopers.application.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.loopers.support.error.CoreException;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ProductCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 동일한 커서를 얻는다")
+    void encodeAndDecode() {
+        //given
+        ProductCursor cursor = new ProductCursor(ProductSortOption.PRICE_ASC, "15000", 42L);
+
+        //when
+        ProductCursor decoded = ProductCursor.decode(cursor.encode(), ProductSortOption.PRICE_ASC);
+
+        //then
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.price()).isEqualByComparingTo(BigDecimal.valueOf(15000));
+    }
+
+    @ParameterizedTest
+    @DisplayName("형식이 올바르지 않은 커서는 예외가 발생한다")
+    @ValueSource(strings = {"invalid", "bGF0ZXN0fGFiY3wx", "!!!"})
+    void fail_whenCursorIsMalformed(String encoded) {
+        //when & then
+        assertThatThrownBy(() -> ProductCursor.decode(encoded, ProductSortOption.LATEST))
+            .isInstanceOf(CoreException.class)
+            .hasMessage("유효하지 않은 커서입니다.");
+    }
+}
@@ -3,29 +3,46 @@ package com.loopers.application.product;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.loopers.domain.brand.Brand;
 import com.loopers.domain.brand.BrandRepository;
 import com.loopers.domain.brand.BrandService;
+import com.loopers.domain.like.LikeMembershipCache;
 import com.loopers.domain.like.LikeRepository;
 import com.loopers.domain.like.LikeService;
 import com.loopers.domain.product.Money;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductSalesService;
 import com.loopers.domain.product.ProductService;
 import com.loopers.domain.product.Quantity;
 import com.loopers.domain.user.Gender;
 import com.loopers.domain.user.UserRepository;
 import com.loopers.domain.user.UserService;
+import com.loopers.infrastructure.cache.TwoLevelCacheManager;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
@@ -49,6 +66,12 @@ public class ProductFacadeIntegrationTest {
     @Autowired
     private LikeService likeService;
 
+    @Autowired
+    private LikeMembershipCache likeMembershipCache;
+
+    @Autowired
+    private ProductSalesService productSalesService;
+
     @MockitoSpyBean
     private ProductRepository productRepository;
 
@@ -64,9 +87,17 @@ public class ProductFacadeIntegrationTest {
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
 
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @Autowired
+    private TwoLevelCacheManager twoLevelCacheManager;
+
     @AfterEach
     void tearDown() {
         databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+        twoLevelCacheManager.clearLocal();
     }
 
     @DisplayName("상품 상세 조회")
@@ -104,7 +135,7 @@ public class ProductFacadeIntegrationTest {
 
             // then
             verify(productRepository, times(1)).findById(product.getId());
-            verify(brandRepository, times(1)).findById(brand.getId());
+            verify(brandRepository, never()).findById(brand.getId());
             verify(likeRepository, times(1)).countByProductId(product.getId());
 
             assertAll(
@@ -120,6 +151,140 @@ public class ProductFacadeIntegrationTest {
             );
         }
 
+        @Test
+        @DisplayName("두 번째 상세 조회는 캐시에서 응답한다")
+        void getProductDetail_fromCache() {
+            // given
+            Brand brand = brandService.create("brand1", "description1");
+            Product product = productService.create("product1", Money.of(10000L), Quantity.of(100), brand.getId());
+
+            ProductCommand.GetDetail command = ProductCommand.GetDetail.of(product.getId());
+            productFacade.getProductDetail(command);
+
+            // when
+            ProductInfo.Detail result = productFacade.getProductDetail(command);
+
+            // then
+            verify(productRepository, times(1)).findById(product.getId());
+            verify(brandRepository, never()).findById(brand.getId());
+            verify(likeRepository, times(1)).countByProductId(product.getId());
+
+            assertAll(
+                () -> assertThat(result.productId()).isEqualTo(product.getId()),
+                () -> assertThat(result.price()).isEqualTo(Money.of(10000L)),
+                () -> assertThat(result.stockQuantity()).isEqualTo(Quantity.of(100)),
+                () -> assertThat(result.brandName()).isEqualTo("brand1")
+            );
+        }
+
+        @Test
+        @DisplayName("Redis 캐시가 비어 있어도 로컬 캐시에서 응답한다")
+        void getProductDetail_fromLocalCache() {
+            // given
+            Brand brand = brandService.create("brand1", "description1");
+            Product product = productService.create("product1", Money.of(10000L), Quantity.of(100), brand.getId());
+
+            ProductCommand.GetDetail command = ProductCommand.GetDetail.of(product.getId());
+            productFacade.getProductDetail(command);
+            redisCleanUp.truncateAll();
+
+            // when
+            ProductInfo.Detail result = productFacade.getProductDetail(command);
+
+            // then
+            verify(productRepository, times(1)).findById(product.getId());
+            assertThat(result.productId()).isEqualTo(product.getId());
+        }
+
+        @Test
+        @DisplayName("캐시가 비어 있을 때 동시에 조회해도 상품은 한 번만 적재된다")
+        void getProductDetail_concurrentMisses() throws InterruptedException {
+            // given
+            Brand brand = brandService.create("brand1", "description1");
+            Product product = productService.create("product1", Money.of(10000L), Quantity.of(100), brand.getId());
+
+            ProductCommand.GetDetail command = ProductCommand.GetDetail.of(product.getId());
+
+            int threadCount = 20;
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch ready = new CountDownLatch(1);
+            CountDownLatch latch = new CountDownLatch(threadCount);
+            AtomicInteger successCount = new AtomicInteger(0);
+
+            // when
+            for (int i = 0; i < threadCount; i++) {
+                executorService.submit(() -> {
+                    try {
+                        ready.await();
+                        productFacade.getProductDetail(command);
+                        successCount.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+
+            ready.countDown();
+            latch.await();
+            executorService.shutdown();
+
+            // then
+            assertThat(successCount.get()).isEqualTo(threadCount);
+            verify(productRepository, times(1)).findById(product.getId());
+            verify(likeRepository, times(1)).countByProductId(product.getId());
+        }
+
+        @Test
+        @DisplayName("좋아요와 재고 변경 후에는 캐시가 무효화되어 최신 상세를 응답한다")
+        void getProductDetail_afterCacheEviction() {
+            // given
+            Brand brand = brandService.create("brand1", "description1");
+            Product product = productService.create("product1", Money.of(10000L), Quantity.of(100), brand.getId());
+
+            String userId = "user1";
+            userService.signUp(userId, "사용자1", Gender.M, "abc@gmail.com", "1995-03-01");
+
+            ProductCommand.GetDetail command = ProductCommand.GetDetail.of(product.getId());
+            productFacade.getProductDetail(command);
+
+            likeService.like(userId, product.getId());
+            productService.decreaseStock(product.getId(), Quantity.of(10));
+
+            // when
+            ProductInfo.Detail result = productFacade.getProductDetail(command);
+
+            // then
+            assertAll(
+                () -> assertThat(result.likeCount()).isEqualTo(1L),
+                () -> assertThat(result.stockQuantity()).isEqualTo(Quantity.of(90))
+            );
+        }
+
+        @Test
+        @DisplayName("브랜드를 수정하면 캐시된 상세에도 수정된 브랜드 정보가 반영된다")
+        void getProductDetail_afterBrandUpdate() {
+            // given
+            Brand brand = brandService.create("brand1", "description1");
+            Product product = productService.create("product1", Money.of(10000L), Quantity.of(100), brand.getId());
+
+            ProductCommand.GetDetail command = ProductCommand.GetDetail.of(product.getId());
+            productFacade.getProductDetail(command);
+
+            brandService.update(brand.getId(), "brand2", "description2");
+
+            // when
+            ProductInfo.Detail result = productFacade.getProductDetail(command);
+
+            // then
+            verify(productRepository, times(1)).findById(product.getId());
+            assertAll(
+                () -> assertThat(result.brandName()).isEqualTo("brand2"),
+                () -> assertThat(result.brandDescription()).isEqualTo("description2")
+            );
+        }
+
         @Test
         @DisplayName("존재하지 않는 상품 ID로 상세 조회 시 실패한다")
         void fail_whenProductNotExists() {
@@ -172,6 +337,10 @@ public class ProductFacadeIntegrationTest {
 
             // then
             verify(productRepository, times(1)).countAll();
+            verify(brandRepository, never()).findAllByIds(anyCollection());
+            verify(likeRepository, never()).countByProductIds(anyCollection());
+            verify(brandRepository, never()).findById(anyLong());
+            verify(likeRepository, never()).countByProductId(anyLong());
 
             assertAll(
                 () -> assertThat(result).isNotNull(),
@@ -209,6 +378,37 @@ public class ProductFacadeIntegrationTest {
             );
         }
 
+        @Test
+        @DisplayName("상품 목록 조회가 성공한다 (좋아요 많은순)")
+        void getProducts_likesDesc() {
+            // given
+            Brand brand1 = brandService.create("brand1", "description1");
+
+            Product product1 = productService.create("product1", Money.of(10000L), Quantity.of(100), brand1.getId());
+            Product product2 = productService.create("product2", Money.of(20000L), Quantity.of(50), brand1.getId());
+
+            for (int i = 1; i <= 2; i++) {
+                String userId = "user" + i;
+                userService.signUp(userId, "사용자" + i, Gender.M, userId + "@gmail.com", "1995-03-01");
+                likeService.like(userId, product2.getId());
+            }
+            likeService.like("user1", product1.getId());
+
+            ProductCommand.GetList command = ProductCommand.GetList.of("likes_desc", 0, 10);
+
+            // when
+            ProductInfo.PagedList result = productFacade.getProducts(command);
+
+            // then
+            assertAll(
+                () -> assertThat(result.products()).hasSize(2),
+                () -> assertThat(result.products().get(0).productId()).isEqualTo(product2.getId()),
+                () -> assertThat(result.products().get(0).likeCount()).isEqualTo(2L),
+                () -> assertThat(result.products().get(1).productId()).isEqualTo(product1.getId()),
+                () -> assertThat(result.products().get(1).likeCount()).isEqualTo(1L)
+            );
+        }
+
         @Test
         @DisplayName("페이징이 올바르게 적용된다")
         void getProducts_withPaging() {
@@ -242,6 +442,259 @@ public class ProductFacadeIntegrationTest {
                 () -> assertThat(result.hasPrevious()).isTrue()
             );
         }
+
+        @Test
+        @DisplayName("사용자 ID 를 넘기면 상품마다 좋아요 여부를 한 번의 조회로 채운다")
+        void getProducts_withLikedByMe() {
+            // given
+            Brand brand1 = brandService.create("brand1", "description1");
+
+            Product product1 = productService.create("product1", Money.of(10000L), Quantity.of(100), brand1.getId());
+            Product product2 = productService.create("product2", Money.of(20000L), Quantity.of(50), brand1.getId());
+
+            String userId = "user1";
+            userService.signUp(userId, "사용자1", Gender.M, "user1@gmail.com", "1995-03-01");
+            likeService.like(userId, product2.getId());
+
+            ProductCommand.GetList command = ProductCommand.GetList.of("price_asc", 0, 10, userId);
+
+            // when
+            ProductInfo.PagedList result = productFacade.getProducts(command);
+
+            // then
+            assertAll(
+                () -> assertThat(result.products().get(0).productId()).isEqualTo(product1.getId()),
+                () -> assertThat(result.products().get(0).likedByMe()).isFalse(),
+                () -> assertThat(result.products().get(1).productId()).isEqualTo(product2.getId()),
+                () -> assertThat(result.products().get(1).likedByMe()).isTrue()
+            );
+            verify(likeRepository, times(1)).findByUserId(userId);
+            verify(likeRepository, never()).existsByUserIdAndProductId(anyString(), anyLong());
+        }
+
+        @Test
+        @DisplayName("좋아요 커밋 전에 읽은 목록으로 좋아요 집합을 적재하려 하면 적재하지 않는다")
+        void getProducts_withLikedByMe_ignoresStaleLoad() {
+            // given
+            Brand brand1 = brandService.create("brand1", "description1");
+            Product product1 = productService.create("product1", Money.of(10000L), Quantity.of(100), brand1.getId());
+
+            String userId = "user1";
+            userService.signUp(userId, "사용자1", Gender.M, "user1@gmail.com", "1995-03-01");
+            likeService.like(userId, product1.getId());
+
+            // 좋아요 커밋 전에 likes 테이블을 읽은 조회가 뒤늦게 적재를 시도한다
+            likeMembershipCache.load(userId, List.of());
+
+            ProductCommand.GetList command = ProductCommand.GetList.of("latest", 0, 10, userId);
+
+            // when
+            ProductInfo.PagedList result = productFacade.getProducts(command);
+
+            // then
+            assertThat(result.products().get(0).likedByMe()).isTrue();
+        }
+
+        @Test
+        @DisplayName("사용자 ID 가 없으면 좋아요 여부를 조회하지 않는다")
+        void getProducts_withoutUser() {
+            // given
+            Brand brand1 = brandService.create("brand1", "description1");
+            productService.create("product1", Money.of(10000L), Quantity.of(100), brand1.getId());
+
+            ProductCommand.GetList command = ProductCommand.GetList.of("latest", 0, 10);
+
+            // when
+            ProductInfo.PagedList result = productFacade.getProducts(command);
+
+            // then
+            assertThat(result.products().get(0).likedByMe()).isNull();
+            verify(likeRepository, never()).findByUserId(anyString());
+        }
+
+        @Test
+        @DisplayName("브랜드를 지정하면 해당 브랜드 상품만 조회하고, 전체 상품 수 대신 브랜드 상품 수를 센다")
+        void getProducts_byBrand() {
+            // given
+            Brand brand1 = brandService.create("brand1", "description1");
+            Brand brand2 = brandService.create("brand2", "description2");
+
+            Product product1 = productService.create("product1", Money.of(20000L), Quantity.of(100), brand1.getId());
+            Product product2 = productService.create("product2", Money.of(10000L), Quantity.of(100), brand1.getId());
+            productService.create("product3", Money.of(5000L), Quantity.of(100), brand2.getId());
+
+            ProductCommand.GetList command = ProductCommand.GetList.of("price_asc", brand1.getId(), 0, 10, null);
+
+            // when
+            ProductInfo.PagedList result = productFacade.getProducts(command);
+            productFacade.getProducts(command);
+
+            // then
+            verify(productRepository, never()).countAll();
+            verify(productRepository, times(1)).countByBrandId(brand1.getId());
+
+            assertAll(
+                () -> assertThat(result.totalElements()).isEqualTo(2L),
+                () -> assertThat(result.products())
+                    .extracting(ProductInfo.Detail::productId)
+                    .containsExactly(product2.getId(), product1.getId())
+            );
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 브랜드로 조회하면 예외가 발생한다")
+        void fail_whenBrandNotExists() {
+            // given
+            ProductCommand.GetList command = ProductCommand.GetList.of("latest", 999L, 0, 10, null);
+
+            // when & then
+            assertThatThrownBy(() -> productFacade.getProducts(command))
+                .isInstanceOf(CoreException.class)
+                .satisfies(exception ->
+                    assertThat(((CoreException) exception).getErrorType()).isEqualTo(ErrorType.NOT_FOUND));
+        }
+    }
+
+    @DisplayName("판매량순 상품 목록 조회")
+    @Nested
+    class GetBestSellers {
+
+        @Test
+        @DisplayName("누적 판매량이 많은 순으로 조회하며, 판매되지 않은 상품은 뒤에 온다")
+        void getProducts_salesDesc() {
+            // given
+            Brand brand1 = brandService.create("brand1", "description1");
+
+            Product product1 = productService.create("product1", Money.of(10000L), Quantity.of(100), brand1.getId());
+            Product product2 = productService.create("product2", Money.of(20000L), Quantity.of(100), brand1.getId());
+            Product product3 = productService.create("product3", Money.of(30000L), Quantity.of(100), brand1.getId());
+
+            LocalDate today = LocalDate.now();
+            productSalesService.recordSales(Map.of(product1.getId(), 1, product2.getId(), 3), today);
+            productSalesService.recordSales(Map.of(product1.getId(), 1), today);
+
+            ProductCommand.GetList command = ProductCommand.GetList.of("sales_desc", 0, 10);
+
+            // when
+            ProductInfo.PagedList result = productFacade.getProducts(command);
+
+            // then
+            assertAll(
+                () -> assertThat(result.products()).hasSize(3),
+                () -> assertThat(result.products().get(0).productId()).isEqualTo(product2.getId()),
+                () -> assertThat(result.products().get(1).productId()).isEqualTo(product1.getId()),
+                () -> assertThat(result.products().get(2).productId()).isEqualTo(product3.getId())
+            );
+        }
+
+        @Test
+        @DisplayName("기간 판매량순 목록은 기간 안의 일별 판매량만 합산한다")
+        void getBestSellers_withinPeriod() {
+            // given
+            Brand brand1 = brandService.create("brand1", "description1");
+
+            Product product1 = productService.create("product1", Money.of(10000L), Quantity.of(100), brand1.getId());
+            Product product2 = productService.create("product2", Money.of(20000L), Quantity.of(100), brand1.getId());
+
+            LocalDate today = LocalDate.now();
+            productSalesService.recordSales(Map.of(product1.getId(), 10), today.minusDays(30));
+            productSalesService.recordSales(Map.of(product1.getId(), 1, product2.getId(), 2), today);
+
+            ProductCommand.GetBestSellers command = ProductCommand.GetBestSellers.of(today.minusDays(6), today, 0, 10);
+
+            // when
+            ProductInfo.PagedList result = productFacade.getBestSellers(command);
+
+            // then
+            assertAll(
+                () -> assertThat(result.totalElements()).isEqualTo(2L),
+                () -> assertThat(result.products().get(0).productId()).isEqualTo(product2.getId()),
+                () -> assertThat(result.products().get(1).productId()).isEqualTo(product1.getId())
+            );
+        }
+
+        @Test
+        @DisplayName("판매량순은 커서 기반 조회를 지원하지 않는다")
+        void fail_whenCursorWithSalesDesc() {
+            // when & then
+            assertThatThrownBy(() -> ProductCommand.GetListByCursor.of("sales_desc", null, 10))
+                .isInstanceOf(CoreException.class)
+                .satisfies(exception ->
+                    assertThat(((CoreException) exception).getErrorType()).isEqualTo(ErrorType.BAD_REQUEST));
+        }
+    }
+
+    @DisplayName("커서 기반 상품 목록 조회")
+    @Nested
+    class GetProductsByCursor {
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, -1})
+        @DisplayName("페이지 크기가 1 보다 작으면 BAD_REQUEST 예외가 발생한다")
+        void fail_whenSizeIsLessThanOne(int size) {
+            // when & then
+            assertThatThrownBy(() -> ProductCommand.GetListByCursor.of("latest", null, size))
+                .isInstanceOf(CoreException.class)
+                .satisfies(exception ->
+                    assertThat(((CoreException) exception).getErrorType()).isEqualTo(ErrorType.BAD_REQUEST));
+        }
+
+        @Test
+        @DisplayName("다음 커서로 이어서 조회하면 중복 없이 전체 상품을 순서대로 조회한다 (가격 낮은순)")
+        void getProductsByCursor_priceAsc() {
+            // given
+            Brand brand1 = brandService.create("brand1", "description1");
+
+            Product product1 = productService.create("product1", Money.of(10000L), Quantity.of(100), brand1.getId());
+            Product product2 = productService.create("product2", Money.of(10000L), Quantity.of(100), brand1.getId());
+            Product product3 = productService.create("product3", Money.of(5000L), Quantity.of(100), brand1.getId());
+
+            // when
+            ProductInfo.CursorList firstPage = productFacade.getProductsByCursor(
+                ProductCommand.GetListByCursor.of("price_asc", null, 2)
+            );
+            ProductInfo.CursorList secondPage = productFacade.getProductsByCursor(
+                ProductCommand.GetListByCursor.of("price_asc", firstPage.nextCursor(), 2)
+            );
+
+            // then
+            verify(productRepository, never()).countAll();
+
+            assertAll(
+                () -> assertThat(firstPage.products())
+                    .extracting(ProductInfo.Detail::productId)
+                    .containsExactly(product3.getId(), product1.getId()),
+                () -> assertThat(firstPage.hasNext()).isTrue(),
+                () -> assertThat(secondPage.products())
+                    .extracting(ProductInfo.Detail::productId)
+                    .containsExactly(product2.getId()),
+                () -> assertThat(secondPage.hasNext()).isFalse(),
+                () -> assertThat(secondPage.nextCursor()).isNull()
+            );
+        }
+
+        @Test
+        @DisplayName("다른 정렬 기준으로 발급된 커서로 조회하면 실패한다")
+        void fail_whenCursorSortMismatch() {
+            // given
+            Brand brand1 = brandService.create("brand1", "description1");
+            for (int i = 1; i <= 3; i++) {
+                productService.create("product" + i, Money.of(1000L * i), Quantity.of(100), brand1.getId());
+            }
+
+            ProductInfo.CursorList firstPage = productFacade.getProductsByCursor(
+                ProductCommand.GetListByCursor.of("latest", null, 2)
+            );
+
+            // when & then
+            assertThatThrownBy(() -> ProductCommand.GetListByCursor.of("price_asc", firstPage.nextCursor(), 2))
+                .isInstanceOf(CoreException.class)
+                .satisfies(exception -> {
+                    CoreException coreException = (CoreException) exception;
+                    assertThat(coreException.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+                    assertThat(coreException.getMessage()).isEqualTo("유효하지 않은 커서입니다.");
+                });
+        }
     }
 
     @DisplayName("좋아요한 상품 목록 조회")
@@ -296,6 +749,10 @@ public class ProductFacadeIntegrationTest {
             // then
             verify(userRepository, times(1)).findByUserId(userId);
             verify(likeRepository, times(1)).countByUserId(userId);
+            verify(likeRepository, times(1)).findLikedProductsByUserIdWithPaging(userId, 0, 10);
+            verify(likeRepository, never()).countByProductIds(anyCollection());
+            verify(productRepository, never()).findById(anyLong());
+            verify(brandRepository, never()).findById(anyLong());
 
             assertAll(
                 () -> assertThat(result).isNotNull(),
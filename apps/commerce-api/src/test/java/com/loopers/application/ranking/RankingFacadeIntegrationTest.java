@@ -0,0 +1,180 @@
+package com.loopers.application.ranking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandService;
+import com.loopers.domain.like.LikeRepository;
+import com.loopers.domain.product.Money;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.Quantity;
+import com.loopers.domain.ranking.RankingService;
+import com.loopers.domain.ranking.RankingSignal;
+import com.loopers.domain.ranking.RankingWindow;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+@SpringBootTest
+@DisplayName("RankingFacade 통합테스트")
+public class RankingFacadeIntegrationTest {
+
+    @Autowired
+    private RankingFacade rankingFacade;
+
+    @Autowired
+    private RankingService rankingService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private BrandService brandService;
+
+    @MockitoSpyBean
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("랭킹 조회")
+    @Nested
+    class GetRankings {
+
+        @Test
+        @DisplayName("가중치를 곱한 점수 순으로 상품 상세와 함께 조회하며 likes 테이블을 조회하지 않는다")
+        void getRankings() {
+            // given
+            Brand brand = brandService.create("brand1", "description1");
+            Product product1 = productService.create("product1", Money.of(10000L), Quantity.of(100), brand.getId());
+            Product product2 = productService.create("product2", Money.of(20000L), Quantity.of(100), brand.getId());
+
+            LocalDateTime at = LocalDateTime.of(2025, 1, 1, 10, 0);
+            rankingService.record(RankingSignal.VIEW, Map.of(product1.getId(), 5L), at);
+            rankingService.record(RankingSignal.ORDER, Map.of(product2.getId(), 1L), at);
+
+            RankingCommand.GetList command = RankingCommand.GetList.of("daily", "2025010110", 0, 10);
+
+            // when
+            RankingInfo.PagedList result = rankingFacade.getRankings(command);
+
+            // then
+            assertAll(
+                () -> assertThat(result.totalElements()).isEqualTo(2L),
+                () -> assertThat(result.items()).hasSize(2),
+                () -> assertThat(result.items().get(0).rank()).isEqualTo(1L),
+                () -> assertThat(result.items().get(0).product().productId()).isEqualTo(product2.getId()),
+                () -> assertThat(result.items().get(1).product().productId()).isEqualTo(product1.getId()),
+                () -> assertThat(result.items().get(1).product().brandName()).isEqualTo("brand1")
+            );
+            verify(likeRepository, never()).countByProductIds(any());
+        }
+
+        @Test
+        @DisplayName("이월된 이전 구간 점수는 비율만큼 감쇠되어 다음 구간 랭킹에 반영된다")
+        void carryOver() {
+            // given
+            Brand brand = brandService.create("brand1", "description1");
+            Product product1 = productService.create("product1", Money.of(10000L), Quantity.of(100), brand.getId());
+            Product product2 = productService.create("product2", Money.of(20000L), Quantity.of(100), brand.getId());
+
+            LocalDateTime today = LocalDateTime.of(2025, 1, 1, 23, 0);
+            LocalDateTime tomorrow = today.plusHours(1);
+            rankingService.record(RankingSignal.ORDER, Map.of(product1.getId(), 10L), today);
+            rankingService.carryOverToNext(RankingWindow.DAILY, today);
+            rankingService.record(RankingSignal.ORDER, Map.of(product2.getId(), 2L), tomorrow);
+
+            RankingCommand.GetList command = RankingCommand.GetList.of("daily", "2025010200", 0, 10);
+
+            // when
+            RankingInfo.PagedList result = rankingFacade.getRankings(command);
+
+            // then
+            assertAll(
+                () -> assertThat(result.items()).hasSize(2),
+                () -> assertThat(result.items().get(0).product().productId()).isEqualTo(product2.getId()),
+                () -> assertThat(result.items().get(1).product().productId()).isEqualTo(product1.getId()),
+                () -> assertThat(result.items().get(1).score()).isCloseTo(0.7, offset(1e-9))
+            );
+        }
+
+        @Test
+        @DisplayName("같은 구간을 여러 번 이월해도 한 번만 반영된다")
+        void carryOver_onlyOnce() {
+            // given
+            Brand brand = brandService.create("brand1", "description1");
+            Product product1 = productService.create("product1", Money.of(10000L), Quantity.of(100), brand.getId());
+
+            LocalDateTime today = LocalDateTime.of(2025, 1, 1, 23, 0);
+            rankingService.record(RankingSignal.ORDER, Map.of(product1.getId(), 10L), today);
+            rankingService.carryOverToNext(RankingWindow.DAILY, today);
+            rankingService.carryOverToNext(RankingWindow.DAILY, today);
+
+            RankingCommand.GetList command = RankingCommand.GetList.of("daily", "2025010200", 0, 10);
+
+            // when
+            RankingInfo.PagedList result = rankingFacade.getRankings(command);
+
+            // then
+            assertThat(result.items().get(0).score()).isCloseTo(0.7, offset(1e-9));
+        }
+
+        @Test
+        @DisplayName("랭킹에 남아 있지만 존재하지 않는 상품은 제외한다")
+        void skipsMissingProducts() {
+            // given
+            LocalDateTime at = LocalDateTime.of(2025, 1, 1, 10, 0);
+            rankingService.record(RankingSignal.VIEW, Map.of(999L, 1L), at);
+
+            RankingCommand.GetList command = RankingCommand.GetList.of("hourly", "2025010110", 0, 10);
+
+            // when
+            RankingInfo.PagedList result = rankingFacade.getRankings(command);
+
+            // then
+            assertThat(result.items()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("페이지 크기가 1 미만이거나 페이지가 음수이면 BAD_REQUEST 예외가 발생한다")
+        void fail_whenPagingIsInvalid() {
+            // when & then
+            assertAll(
+                () -> assertThatThrownBy(() -> RankingCommand.GetList.of("hourly", null, 0, 0))
+                    .isInstanceOf(CoreException.class)
+                    .satisfies(exception ->
+                        assertThat(((CoreException) exception).getErrorType()).isEqualTo(ErrorType.BAD_REQUEST)),
+                () -> assertThatThrownBy(() -> RankingCommand.GetList.of("hourly", null, -1, 10))
+                    .isInstanceOf(CoreException.class)
+                    .satisfies(exception ->
+                        assertThat(((CoreException) exception).getErrorType()).isEqualTo(ErrorType.BAD_REQUEST))
+            );
+        }
+    }
+}
@@ -9,6 +9,8 @@ import static org.mockito.Mockito.when;
 
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -25,6 +27,12 @@ class BrandServiceTest {
     @Mock
     private BrandRepository brandRepository;
 
+    @Mock
+    private BrandDictionary brandDictionary;
+
+    @Mock
+    private BrandEventPublisher brandEventPublisher;
+
     @InjectMocks
     private BrandService brandService;
 
@@ -51,6 +59,7 @@ class BrandServiceTest {
             assertThat(result.getDescription()).isEqualTo(description);
 
             verify(brandRepository).save(any(Brand.class));
+            verify(brandEventPublisher).publish(any(BrandEvent.Created.class));
         }
 
         @ParameterizedTest
@@ -93,7 +102,7 @@ class BrandServiceTest {
     class Find {
 
         @Test
-        @DisplayName("ID로 브랜드를 조회한다")
+        @DisplayName("브랜드 사전에 없는 브랜드는 저장소에서 조회한다")
         void findById() {
             //given
             Long brandId = 1L;
@@ -109,6 +118,23 @@ class BrandServiceTest {
             verify(brandRepository).findById(brandId);
         }
 
+        @Test
+        @DisplayName("브랜드 사전에 있는 브랜드는 저장소를 조회하지 않는다")
+        void findById_fromDictionary() {
+            //given
+            Long brandId = 1L;
+            Brand brand = Brand.create("Nike", "Nike 입니다.");
+
+            when(brandDictionary.get(brandId)).thenReturn(Optional.of(brand));
+
+            //when
+            Brand result = brandService.get(brandId);
+
+            //then
+            assertThat(result).isEqualTo(brand);
+            verify(brandRepository, never()).findById(brandId);
+        }
+
         @Test
         @DisplayName("존재하지 않는 브랜드 조회 시 예외가 발생한다")
         void fail_whenBrandNotExists() {
@@ -127,5 +153,65 @@ class BrandServiceTest {
 
             verify(brandRepository).findById(nonExistentId);
         }
+
+        @Test
+        @DisplayName("여러 ID 중 존재하지 않는 브랜드가 있으면 예외가 발생한다")
+        void fail_whenAnyBrandNotExists() {
+            //given
+            List<Long> brandIds = List.of(1L, 2L);
+            when(brandRepository.findAllByIds(brandIds)).thenReturn(List.of());
+
+            //when & then
+            assertThatThrownBy(() -> brandService.getAllByIds(brandIds))
+                .isInstanceOf(CoreException.class)
+                .satisfies(exception -> {
+                    CoreException coreException = (CoreException) exception;
+                    assertThat(coreException.getErrorType()).isEqualTo(ErrorType.NOT_FOUND);
+                    assertThat(coreException.getMessage()).isEqualTo("브랜드가 존재하지 않습니다.");
+                });
+
+            verify(brandRepository).findAllByIds(brandIds);
+        }
+    }
+
+    @DisplayName("브랜드 수정")
+    @Nested
+    class Update {
+
+        @Test
+        @DisplayName("브랜드를 수정하면 수정 이벤트를 발행한다")
+        void update() {
+            //given
+            Long brandId = 1L;
+            Brand brand = Brand.create("Nike", "Nike 입니다.");
+
+            when(brandRepository.findById(brandId)).thenReturn(brand);
+
+            //when
+            Brand result = brandService.update(brandId, "Adidas", "Adidas 입니다.");
+
+            //then
+            assertThat(result.getName()).isEqualTo("Adidas");
+            assertThat(result.getDescription()).isEqualTo("Adidas 입니다.");
+            verify(brandEventPublisher).publish(new BrandEvent.Updated(brandId));
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 브랜드 수정 시 예외가 발생한다")
+        void fail_whenBrandNotExists() {
+            //given
+            Long nonExistentId = 999L;
+            when(brandRepository.findById(nonExistentId)).thenReturn(null);
+
+            //when & then
+            assertThatThrownBy(() -> brandService.update(nonExistentId, "Adidas", "Adidas 입니다."))
+                .isInstanceOf(CoreException.class)
+                .satisfies(exception -> {
+                    CoreException coreException = (CoreException) exception;
+                    assertThat(coreException.getErrorType()).isEqualTo(ErrorType.NOT_FOUND);
+                });
+
+            verify(brandEventPublisher, never()).publish(any(BrandEvent.Updated.class));
+        }
     }
 }
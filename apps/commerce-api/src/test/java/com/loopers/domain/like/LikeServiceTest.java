@@ -2,11 +2,20 @@ package com.loopers.domain.like;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.loopers.domain.product.ProductRepository;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -14,6 +23,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @ExtendWith(MockitoExtension.class)
 class LikeServiceTest {
@@ -21,6 +32,21 @@ class LikeServiceTest {
     @Mock
     private LikeRepository likeRepository;
 
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private LikeCountCache likeCountCache;
+
+    @Mock
+    private LikeEventPublisher likeEventPublisher;
+
+    @Mock
+    private LikeBuffer likeBuffer;
+
+    @Mock
+    private LikeMembershipCache likeMembershipCache;
+
     @InjectMocks
     private LikeService likeService;
 
@@ -36,34 +62,35 @@ class LikeServiceTest {
             String userId = "user1";
             Long productId = 1L;
 
-            when(likeRepository.findByUserIdAndProductId(userId, productId)).thenReturn(null);
-            when(likeRepository.save(any(Like.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(likeRepository.insertIfAbsent(any(Like.class))).thenReturn(true);
 
             //when
-            likeService.like(userId, productId);
+            boolean result = likeService.like(userId, productId);
 
             //then
-            verify(likeRepository).findByUserIdAndProductId(userId, productId);
-            verify(likeRepository).save(any(Like.class));
+            assertThat(result).isTrue();
+            verify(likeRepository).insertIfAbsent(Like.create(userId, productId));
+            verify(productRepository).increaseLikeCount(productId);
+            verify(likeEventPublisher).publish(new LikeEvent.Liked(userId, productId));
         }
 
-        @DisplayName("이미 좋아요가 존재하는 경우 기존 좋아요를 반환한다.")
+        @DisplayName("이미 좋아요가 존재하는 경우 좋아요 수를 증가시키지 않는다.")
         @Test
-        void returnsExistingLike_whenAlreadyExists() {
+        void doesNotIncreaseLikeCount_whenAlreadyExists() {
             //given
             String userId = "user1";
             Long productId = 1L;
-            Like existingLike = Like.create(userId, productId);
 
-            when(likeRepository.findByUserIdAndProductId(userId, productId)).thenReturn(existingLike);
+            when(likeRepository.insertIfAbsent(any(Like.class))).thenReturn(false);
 
             //when
-            Like result = likeService.like(userId, productId);
+            boolean result = likeService.like(userId, productId);
 
             //then
-            assertThat(result).isEqualTo(existingLike);
-            verify(likeRepository).findByUserIdAndProductId(userId, productId);
-            verify(likeRepository, never()).save(any(Like.class));
+            assertThat(result).isFalse();
+            verify(likeRepository, never()).findByUserIdAndProductId(userId, productId);
+            verify(productRepository, never()).increaseLikeCount(productId);
+            verify(likeEventPublisher, never()).publish(any(LikeEvent.Liked.class));
         }
     }
 
@@ -78,11 +105,32 @@ class LikeServiceTest {
             String userId = "user1";
             Long productId = 1L;
 
+            when(likeRepository.deleteByUserIdAndProductId(userId, productId)).thenReturn(1L);
+
             //when
             likeService.unlike(userId, productId);
 
             //then
             verify(likeRepository).deleteByUserIdAndProductId(userId, productId);
+            verify(productRepository).decreaseLikeCount(productId);
+            verify(likeEventPublisher).publish(new LikeEvent.Unliked(userId, productId));
+        }
+
+        @DisplayName("삭제된 좋아요가 없으면 상품의 좋아요 수를 감소시키지 않는다.")
+        @Test
+        void doesNotDecreaseLikeCount_whenNothingDeleted() {
+            //given
+            String userId = "user1";
+            Long productId = 1L;
+
+            when(likeRepository.deleteByUserIdAndProductId(userId, productId)).thenReturn(0L);
+
+            //when
+            boolean result = likeService.unlike(userId, productId);
+
+            //then
+            assertThat(result).isFalse();
+            verify(productRepository, never()).decreaseLikeCount(productId);
         }
     }
 
@@ -135,14 +183,146 @@ class LikeServiceTest {
             String userId = "user123";
             Long productId = 1L;
 
-            when(likeRepository.existsByUserIdAndProductId(userId, productId)).thenReturn(true);
+            when(likeMembershipCache.findLikedAmong(userId, List.of(productId))).thenReturn(Optional.of(Set.of(productId)));
 
             //when
             boolean result = likeService.isLiked(userId, productId);
 
             //then
             assertThat(result).isTrue();
-            verify(likeRepository).existsByUserIdAndProductId(userId, productId);
+            verify(likeRepository, never()).findByUserId(userId);
+        }
+
+        @Test
+        @DisplayName("좋아요 집합이 적재되지 않았으면 likes 테이블에서 한 번 읽어 적재한다")
+        void findLikedProductIds_loadsMembership_whenNotLoaded() {
+            //given
+            String userId = "user123";
+
+            when(likeMembershipCache.findLikedAmong(userId, List.of(1L, 2L, 3L))).thenReturn(Optional.empty());
+            when(likeRepository.findByUserId(userId)).thenReturn(List.of(
+                Like.create(userId, 1L),
+                Like.create(userId, 3L),
+                Like.create(userId, 9L)
+            ));
+
+            //when
+            Set<Long> result = likeService.findLikedProductIds(userId, List.of(1L, 2L, 3L));
+
+            //then
+            assertThat(result).containsExactlyInAnyOrder(1L, 3L);
+            verify(likeMembershipCache).load(userId, Set.of(1L, 3L, 9L));
+            verify(likeRepository, never()).existsByUserIdAndProductId(any(), any());
+        }
+    }
+
+    @DisplayName("쓰기 지연(WRITE_BEHIND) 모드")
+    @Nested
+    class WriteBehind {
+
+        @BeforeEach
+        void setUp() {
+            ReflectionTestUtils.setField(likeService, "writeMode", LikeWriteMode.WRITE_BEHIND);
+            TransactionSynchronizationManager.initSynchronization();
+        }
+
+        @AfterEach
+        void tearDown() {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        @DisplayName("좋아요는 버퍼에만 기록하고 likes 테이블에는 저장하지 않는다.")
+        @Test
+        void like_recordsInBuffer() {
+            //given
+            String userId = "user1";
+            Long productId = 1L;
+
+            when(likeBuffer.record(eq(userId), eq(productId), eq(true), any())).thenReturn(true);
+
+            //when
+            likeService.like(userId, productId);
+
+            //then
+            verify(likeRepository, never()).save(any(Like.class));
+            verify(productRepository, never()).increaseLikeCount(productId);
+            verify(likeEventPublisher).publish(new LikeEvent.Liked(userId, productId));
+        }
+
+        @DisplayName("이미 같은 상태이면 이벤트를 발행하지 않는다.")
+        @Test
+        void unlike_doesNotPublish_whenStateUnchanged() {
+            //given
+            String userId = "user1";
+            Long productId = 1L;
+
+            when(likeBuffer.record(eq(userId), eq(productId), anyBoolean(), any())).thenReturn(false);
+
+            //when
+            likeService.unlike(userId, productId);
+
+            //then
+            verify(likeRepository, never()).deleteByUserIdAndProductId(userId, productId);
+            verify(likeEventPublisher, never()).publish(any(LikeEvent.Unliked.class));
+        }
+
+        @DisplayName("버퍼에 상태가 있으면 likes 테이블을 조회하지 않는다.")
+        @Test
+        void isLiked_readsBuffer() {
+            //given
+            String userId = "user1";
+            Long productId = 1L;
+
+            when(likeBuffer.get(userId, productId)).thenReturn(Optional.of(true));
+
+            //when
+            boolean result = likeService.isLiked(userId, productId);
+
+            //then
+            assertThat(result).isTrue();
+            verify(likeRepository, never()).existsByUserIdAndProductId(userId, productId);
+        }
+
+        @DisplayName("버퍼를 반영할 때 실제로 바뀌는 좋아요만 반영하고 상품별 좋아요 수를 한 번씩 갱신한다.")
+        @Test
+        void flushBuffered() {
+            //given
+            List<PendingLike> pending = List.of(
+                new PendingLike("user1", 1L, true),
+                new PendingLike("user2", 1L, true),
+                new PendingLike("user3", 1L, true),
+                new PendingLike("user1", 2L, false),
+                new PendingLike("user2", 2L, false)
+            );
+
+            when(likeBuffer.popPending(10)).thenReturn(pending);
+            when(likeRepository.findAllByUserIdsAndProductIds(any(), any()))
+                .thenReturn(List.of(Like.create("user3", 1L), Like.create("user1", 2L)));
+
+            //when
+            int flushed = likeService.flushBuffered(10);
+
+            //then
+            assertThat(flushed).isEqualTo(5);
+            verify(likeRepository).insertIgnoreAll(List.of(Like.create("user1", 1L), Like.create("user2", 1L)));
+            verify(likeRepository).deleteAll(List.of(Like.create("user1", 2L)));
+            verify(productRepository).increaseLikeCounts(Map.of(1L, 2L, 2L, -1L));
+            verify(likeEventPublisher).publish(new LikeEvent.Flushed(Set.of(1L, 2L), Set.of("user1", "user2", "user3")));
+        }
+
+        @DisplayName("반영할 좋아요가 없으면 likes 테이블에 접근하지 않는다.")
+        @Test
+        void flushBuffered_whenEmpty() {
+            //given
+            when(likeBuffer.popPending(10)).thenReturn(List.of());
+
+            //when
+            int flushed = likeService.flushBuffered(10);
+
+            //then
+            assertThat(flushed).isZero();
+            verify(likeRepository, never()).insertIgnoreAll(anyList());
+            verify(likeBuffer, never()).markPending(anyList());
         }
     }
 }
@@ -9,6 +9,7 @@ import com.loopers.domain.product.Money;
 import com.loopers.domain.product.Quantity;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -130,18 +131,18 @@ class OrderServiceTest {
         void findByUserId() {
             //given
             String userId = "user1";
-            Order order1 = Order.create(userId);
-            Order order2 = Order.create(userId);
-            List<Order> orders = List.of(order1, order2);
-            when(orderRepository.findByUserIdOrderByOrderedAtDesc(userId)).thenReturn(orders);
+            OrderSummary order1 = new OrderSummary(2L, Money.of(20000L), OrderStatus.COMPLETED, 2, LocalDateTime.now());
+            OrderSummary order2 = new OrderSummary(1L, Money.of(10000L), OrderStatus.PENDING, 1, LocalDateTime.now());
+            List<OrderSummary> orders = List.of(order1, order2);
+            when(orderRepository.findSummariesByUserId(userId)).thenReturn(orders);
 
             //when
-            List<Order> result = orderService.getAllByUser(userId);
+            List<OrderSummary> result = orderService.getAllByUser(userId);
 
             //then
             assertThat(result).hasSize(2);
             assertThat(result).containsExactly(order1, order2);
-            verify(orderRepository).findByUserIdOrderByOrderedAtDesc(userId);
+            verify(orderRepository).findSummariesByUserId(userId);
         }
 
         @DisplayName("사용자의 주문이 없으면 빈 목록을 반환한다.")
@@ -149,14 +150,14 @@ class OrderServiceTest {
         void findByUserId_whenNoOrders() {
             //given
             String userId = "testUser";
-            when(orderRepository.findByUserIdOrderByOrderedAtDesc(userId)).thenReturn(List.of());
+            when(orderRepository.findSummariesByUserId(userId)).thenReturn(List.of());
 
             //when
-            List<Order> result = orderService.getAllByUser(userId);
+            List<OrderSummary> result = orderService.getAllByUser(userId);
 
             //then
             assertThat(result).isEmpty();
-            verify(orderRepository).findByUserIdOrderByOrderedAtDesc(userId);
+            verify(orderRepository).findSummariesByUserId(userId);
         }
     }
 }
@@ -1,22 +1,40 @@
 package com.loopers.domain.product;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import com.loopers.domain.brand.Brand;
 import com.loopers.domain.brand.BrandRepository;
+import com.loopers.infrastructure.product.ProductStockActorSystem;
+import com.loopers.infrastructure.product.ProductStockGroupCommitBatcher;
+import com.loopers.redis.lease.RedisLease;
+import com.loopers.support.error.ErrorType;
 import com.loopers.support.error.CoreException;
 import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @SpringBootTest
 class ProductConcurrencyTest {
@@ -30,12 +48,41 @@ class ProductConcurrencyTest {
     @Autowired
     private BrandRepository brandRepository;
 
+    @Autowired
+    private ProductStockReservation productStockReservation;
+
+    @Autowired
+    private ProductStockShardService productStockShardService;
+
+    @Autowired
+    private ProductStockGroupCommitBatcher productStockGroupCommitBatcher;
+
+    @Autowired
+    private ProductStockActorSystem productStockActorSystem;
+
+    @Autowired
+    private RedisLease redisLease;
+
+    @Autowired
+    private ProductStockPartitionFenceRepository fenceRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
 
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
     @AfterEach
     void tearDown() {
+        productStockActorSystem.clearLocal();
         databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+        changeStockDecreaseMode(StockDecreaseMode.CONDITIONAL_UPDATE);
+        ReflectionTestUtils.setField(productStockGroupCommitBatcher, "maxBatchSize", 100);
+        ReflectionTestUtils.setField(productStockGroupCommitBatcher, "maxDelay", Duration.ofMillis(5));
     }
 
     @DisplayName("동일한 상품에 대해 여러 주문이 동시에 요청되어도, 재고가 정상적으로 차감되어야 한다")
@@ -141,4 +188,473 @@ class ProductConcurrencyTest {
             () -> assertThat(successCount.get() + failCount.get()).isEqualTo(threadCount)
         );
     }
+
+    @DisplayName("두 상품을 서로 반대 순서로 담은 주문이 동시에 들어와도 교착 상태 없이 모두 차감된다")
+    @Test
+    void concurrentMultiItemDecrease_inOppositeOrder() throws InterruptedException {
+        // given
+        changeStockDecreaseMode(StockDecreaseMode.PESSIMISTIC_LOCK);
+
+        Brand brand = Brand.create("브랜드", "브랜드 설명");
+        brandRepository.save(brand);
+
+        Product productA = productRepository.save(
+            Product.create("상품A", Money.of(BigDecimal.valueOf(10000)), Quantity.of(100), brand.getId())
+        );
+        Product productB = productRepository.save(
+            Product.create("상품B", Money.of(BigDecimal.valueOf(10000)), Quantity.of(100), brand.getId())
+        );
+
+        int threadCount = 20;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            Map<Long, Quantity> quantities = new LinkedHashMap<>();
+            if (i % 2 == 0) {
+                quantities.put(productA.getId(), Quantity.of(1));
+                quantities.put(productB.getId(), Quantity.of(1));
+            } else {
+                quantities.put(productB.getId(), Quantity.of(1));
+                quantities.put(productA.getId(), Quantity.of(1));
+            }
+
+            executorService.submit(() -> {
+                try {
+                    productService.decreaseStocks(quantities);
+                    successCount.incrementAndGet();
+                } catch (RuntimeException e) {
+                    System.out.println("재고 차감 실패: " + e.getMessage());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        assertAll(
+            () -> assertThat(successCount.get()).isEqualTo(threadCount),
+            () -> assertThat(productService.get(productA.getId()).getStockQuantity().getValue()).isEqualTo(100 - threadCount),
+            () -> assertThat(productService.get(productB.getId()).getStockQuantity().getValue()).isEqualTo(100 - threadCount)
+        );
+    }
+
+    /**
+     * 같은 상품에 대한 동시 차감을 방식별로 실행하여 정합성과 처리 시간을 비교한다.
+     * 처리 시간은 환경에 따라 달라지므로 검증하지 않고 출력만 한다.
+     * REDIS_RESERVATION 은 DB 반영이 비동기이므로 예약 재고로 검증한다.
+     * INVENTORY_ACTOR 는 write-behind 로그를 반영한 뒤 DB 재고로 검증한다. PESSIMISTIC_LOCK 이 행 잠금 방식의 기준선이다.
+     */
+    @DisplayName("차감 방식과 관계없이 동시 차감 결과가 일치하며, 방식별 처리 시간을 출력한다")
+    @ParameterizedTest
+    @EnumSource(StockDecreaseMode.class)
+    void concurrentStockDecrease_benchmark(StockDecreaseMode mode) throws InterruptedException {
+        // given
+        changeStockDecreaseMode(mode);
+
+        Brand brand = Brand.create("브랜드", "브랜드 설명");
+        brandRepository.save(brand);
+
+        Product savedProduct = productRepository.save(Product.create(
+            "상품1",
+            Money.of(BigDecimal.valueOf(10000)),
+            Quantity.of(1000),
+            brand.getId()
+        ));
+
+        int threadCount = 32;
+        int requestCount = 500;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(requestCount);
+
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        // when
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < requestCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    productService.decreaseStock(savedProduct.getId(), Quantity.of(1));
+                    successCount.incrementAndGet();
+                } catch (RuntimeException e) {
+                    System.out.println("재고 차감 실패: " + e.getMessage());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        executorService.shutdown();
+
+        System.out.printf(
+            "[%s] requests: %d, threads: %d, elapsed: %dms, throughput: %.1f req/s%n",
+            mode, requestCount, threadCount, elapsedMillis, requestCount * 1000.0 / Math.max(elapsedMillis, 1)
+        );
+
+        // then
+        if (mode == StockDecreaseMode.INVENTORY_ACTOR) {
+            productStockActorSystem.flush();
+        }
+        int finalStock = mode == StockDecreaseMode.REDIS_RESERVATION
+            ? productStockReservation.getStock(savedProduct.getId()).orElseThrow()
+            : productService.get(savedProduct.getId()).getStockQuantity().getValue();
+
+        assertAll(
+            () -> assertThat(successCount.get()).isEqualTo(requestCount),
+            () -> assertThat(finalStock).isEqualTo(1000 - requestCount)
+        );
+    }
+
+    /**
+     * 같은 상품에 대한 동시 차감을 버킷 수별로 실행하여 정합성과 처리 시간을 비교한다.
+     * bucketCount 가 1 이면 재고 분할 없이 product 행에서 차감한다.
+     */
+    @DisplayName("재고를 버킷으로 나누어도 동시 차감 결과가 일치하며, 버킷 수별 처리 시간을 출력한다")
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4, 8})
+    void concurrentStockDecrease_withStockBuckets(int bucketCount) throws InterruptedException {
+        // given
+        Brand brand = Brand.create("브랜드", "브랜드 설명");
+        brandRepository.save(brand);
+
+        Product savedProduct = productRepository.save(Product.create(
+            "상품1",
+            Money.of(BigDecimal.valueOf(10000)),
+            Quantity.of(1000),
+            brand.getId()
+        ));
+        if (bucketCount > 1) {
+            productStockShardService.enable(savedProduct.getId(), bucketCount);
+        }
+
+        int threadCount = 32;
+        int requestCount = 500;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(requestCount);
+
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        // when
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < requestCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    productService.decreaseStock(savedProduct.getId(), Quantity.of(1));
+                    successCount.incrementAndGet();
+                } catch (RuntimeException e) {
+                    System.out.println("재고 차감 실패: " + e.getMessage());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        executorService.shutdown();
+
+        System.out.printf(
+            "[buckets=%d] requests: %d, threads: %d, elapsed: %dms, throughput: %.1f req/s%n",
+            bucketCount, requestCount, threadCount, elapsedMillis, requestCount * 1000.0 / Math.max(elapsedMillis, 1)
+        );
+
+        // then
+        Product finalProduct = productService.get(savedProduct.getId());
+
+        assertAll(
+            () -> assertThat(successCount.get()).isEqualTo(requestCount),
+            () -> assertThat(productService.getStockQuantity(finalProduct).getValue()).isEqualTo(1000 - requestCount)
+        );
+    }
+
+    @DisplayName("버킷별 재고가 부족해도 전체 합계가 충분하면 여러 버킷에서 나누어 차감하고, 합계를 넘으면 실패한다")
+    @Test
+    void concurrentStockDecrease_withStockBuckets_whenInsufficientStock() throws InterruptedException {
+        // given
+        Brand brand = Brand.create("브랜드", "브랜드 설명");
+        brandRepository.save(brand);
+
+        Product savedProduct = productRepository.save(Product.create(
+            "상품1",
+            Money.of(BigDecimal.valueOf(10000)),
+            Quantity.of(30),
+            brand.getId()
+        ));
+        productStockShardService.enable(savedProduct.getId(), 4);
+
+        int threadCount = 10;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    productService.decreaseStock(savedProduct.getId(), Quantity.of(10));
+                    successCount.incrementAndGet();
+                } catch (CoreException e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        Product finalProduct = productService.get(savedProduct.getId());
+
+        assertAll(
+            () -> assertThat(successCount.get()).isEqualTo(3),
+            () -> assertThat(failCount.get()).isEqualTo(7),
+            () -> assertThat(productService.getStockQuantity(finalProduct).getValue()).isEqualTo(0)
+        );
+    }
+
+    /**
+     * 그룹 커밋의 배치 크기와 대기 시간을 바꿔 가며 처리 시간을 비교한다.
+     * 대기 시간이 길수록 배치는 커지고 커밋 수는 줄지만, 요청 하나가 기다리는 시간은 늘어난다.
+     */
+    @DisplayName("그룹 커밋 설정과 관계없이 동시 차감 결과가 일치하며, 설정별 처리 시간을 출력한다")
+    @ParameterizedTest
+    @CsvSource({"1, 0", "16, 2", "100, 5", "500, 20"})
+    void concurrentStockDecrease_groupCommitBenchmark(int maxBatchSize, long maxDelayMillis) throws InterruptedException {
+        // given
+        changeStockDecreaseMode(StockDecreaseMode.GROUP_COMMIT);
+        ReflectionTestUtils.setField(productStockGroupCommitBatcher, "maxBatchSize", maxBatchSize);
+        ReflectionTestUtils.setField(productStockGroupCommitBatcher, "maxDelay", Duration.ofMillis(maxDelayMillis));
+
+        Brand brand = Brand.create("브랜드", "브랜드 설명");
+        brandRepository.save(brand);
+
+        Product savedProduct = productRepository.save(Product.create(
+            "상품1",
+            Money.of(BigDecimal.valueOf(10000)),
+            Quantity.of(1000),
+            brand.getId()
+        ));
+
+        int threadCount = 32;
+        int requestCount = 500;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(requestCount);
+
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        // when
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < requestCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    productService.decreaseStock(savedProduct.getId(), Quantity.of(1));
+                    successCount.incrementAndGet();
+                } catch (RuntimeException e) {
+                    System.out.println("재고 차감 실패: " + e.getMessage());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        executorService.shutdown();
+
+        System.out.printf(
+            "[GROUP_COMMIT batch=%d, delay=%dms] requests: %d, threads: %d, elapsed: %dms, throughput: %.1f req/s%n",
+            maxBatchSize, maxDelayMillis, requestCount, threadCount, elapsedMillis,
+            requestCount * 1000.0 / Math.max(elapsedMillis, 1)
+        );
+
+        // then
+        assertAll(
+            () -> assertThat(successCount.get()).isEqualTo(requestCount),
+            () -> assertThat(productService.get(savedProduct.getId()).getStockQuantity().getValue()).isEqualTo(1000 - requestCount)
+        );
+    }
+
+    @DisplayName("그룹 커밋에서 재고가 부족하면 먼저 들어온 요청부터 배정하고 나머지는 실패한다")
+    @Test
+    void concurrentStockDecrease_groupCommit_whenInsufficientStock() throws InterruptedException {
+        // given
+        changeStockDecreaseMode(StockDecreaseMode.GROUP_COMMIT);
+
+        Brand brand = Brand.create("브랜드", "브랜드 설명");
+        brandRepository.save(brand);
+
+        Product savedProduct = productRepository.save(Product.create(
+            "상품1",
+            Money.of(BigDecimal.valueOf(10000)),
+            Quantity.of(30),
+            brand.getId()
+        ));
+
+        int threadCount = 10;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    productService.decreaseStock(savedProduct.getId(), Quantity.of(5));
+                    successCount.incrementAndGet();
+                } catch (CoreException e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        assertAll(
+            () -> assertThat(successCount.get()).isEqualTo(6),
+            () -> assertThat(failCount.get()).isEqualTo(4),
+            () -> assertThat(productService.get(savedProduct.getId()).getStockQuantity().getValue()).isEqualTo(0)
+        );
+    }
+
+    @DisplayName("INVENTORY_ACTOR 모드에서 다른 노드가 파티션을 소유하면 차감하지 않고 거절한다")
+    @Test
+    void inventoryActor_rejectsWhenPartitionOwnedByOtherNode() {
+        // given
+        changeStockDecreaseMode(StockDecreaseMode.INVENTORY_ACTOR);
+
+        Brand brand = Brand.create("브랜드", "브랜드 설명");
+        brandRepository.save(brand);
+
+        Product savedProduct = productRepository.save(Product.create(
+            "상품1",
+            Money.of(BigDecimal.valueOf(10000)),
+            Quantity.of(10),
+            brand.getId()
+        ));
+        long partition = Math.floorMod(savedProduct.getId(), 16L);
+        redisLease.tryAcquire("inventory:actor:partition:" + partition, "other-node", Duration.ofSeconds(10));
+
+        // when & then
+        assertThatThrownBy(() -> productService.decreaseStock(savedProduct.getId(), Quantity.of(1)))
+            .isInstanceOf(CoreException.class)
+            .satisfies(exception -> assertThat(((CoreException) exception).getErrorType()).isEqualTo(ErrorType.CONFLICT));
+        assertThat(productService.get(savedProduct.getId()).getStockQuantity().getValue()).isEqualTo(10);
+    }
+
+    @DisplayName("INVENTORY_ACTOR 모드에서 다른 노드가 fencing token 을 올린 뒤에는 이전 소유자의 재고 변경을 반영하지 않는다")
+    @Test
+    void inventoryActor_rejectsWriteBehindWithStaleFencingToken() {
+        // given
+        changeStockDecreaseMode(StockDecreaseMode.INVENTORY_ACTOR);
+
+        Brand brand = Brand.create("브랜드", "브랜드 설명");
+        brandRepository.save(brand);
+
+        Product savedProduct = productRepository.save(Product.create(
+            "상품1",
+            Money.of(BigDecimal.valueOf(10000)),
+            Quantity.of(10),
+            brand.getId()
+        ));
+        productService.decreaseStock(savedProduct.getId(), Quantity.of(1));
+        productStockActorSystem.flush();
+
+        int partition = (int) Math.floorMod(savedProduct.getId(), 16L);
+        ProductStockPartitionFence fence = fenceRepository.findByPartitionNo(partition).orElseThrow();
+        fence.claim();
+        fenceRepository.save(fence);
+
+        // when
+        productService.decreaseStock(savedProduct.getId(), Quantity.of(3));
+        productStockActorSystem.flush();
+
+        // then
+        assertThat(productService.get(savedProduct.getId()).getStockQuantity().getValue()).isEqualTo(9);
+    }
+
+    @DisplayName("INVENTORY_ACTOR 모드에서 파티션의 첫 주문이 롤백되어도 이후 재고 변경은 반영된다")
+    @Test
+    void inventoryActor_appliesWriteBehind_afterFirstOrderRolledBack() {
+        // given
+        changeStockDecreaseMode(StockDecreaseMode.INVENTORY_ACTOR);
+
+        Brand brand = Brand.create("브랜드", "브랜드 설명");
+        brandRepository.save(brand);
+
+        Product savedProduct = productRepository.save(Product.create(
+            "상품1",
+            Money.of(BigDecimal.valueOf(10000)),
+            Quantity.of(10),
+            brand.getId()
+        ));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            productService.decreaseStock(savedProduct.getId(), Quantity.of(1));
+            status.setRollbackOnly();
+        });
+
+        // when
+        productService.decreaseStock(savedProduct.getId(), Quantity.of(3));
+        productStockActorSystem.flush();
+
+        // then
+        assertThat(productService.get(savedProduct.getId()).getStockQuantity().getValue()).isEqualTo(7);
+    }
+
+    @DisplayName("INVENTORY_ACTOR 모드에서 소유하지 않은 파티션의 재고 복원은 DB 에 바로 쓰지 않고 소유자의 로그로 반영된다")
+    @Test
+    void inventoryActor_routesReleaseToPartitionOwner() {
+        // given
+        changeStockDecreaseMode(StockDecreaseMode.INVENTORY_ACTOR);
+
+        Brand brand = Brand.create("브랜드", "브랜드 설명");
+        brandRepository.save(brand);
+
+        Product savedProduct = productRepository.save(Product.create(
+            "상품1",
+            Money.of(BigDecimal.valueOf(10000)),
+            Quantity.of(10),
+            brand.getId()
+        ));
+        String leaseKey = "inventory:actor:partition:" + Math.floorMod(savedProduct.getId(), 16L);
+        redisLease.tryAcquire(leaseKey, "other-node", Duration.ofSeconds(10));
+
+        productStockActorSystem.release(savedProduct.getId(), 2);
+        productStockActorSystem.flush();
+        int stockWhileOwnedByOther = productService.get(savedProduct.getId()).getStockQuantity().getValue();
+
+        redisLease.release(leaseKey, "other-node");
+
+        // when
+        productService.decreaseStock(savedProduct.getId(), Quantity.of(1));
+        productStockActorSystem.flush();
+
+        // then
+        assertAll(
+            () -> assertThat(stockWhileOwnedByOther).isEqualTo(10),
+            () -> assertThat(productService.get(savedProduct.getId()).getStockQuantity().getValue()).isEqualTo(11)
+        );
+    }
+
+    private void changeStockDecreaseMode(StockDecreaseMode mode) {
+        ReflectionTestUtils.setField(AopTestUtils.getTargetObject(productService), "stockDecreaseMode", mode);
+    }
 }
@@ -3,12 +3,21 @@ package com.loopers.domain.product;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -16,12 +25,36 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @ExtendWith(MockitoExtension.class)
 class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ProductCountCache productCountCache;
+
+    @Mock
+    private ProductEventPublisher productEventPublisher;
+
+    @Mock
+    private ProductStockReservation productStockReservation;
+
+    @Mock
+    private ProductStockShardService productStockShardService;
+
+    @Mock
+    private ProductStockBatcher productStockBatcher;
+
+    @Mock
+    private ProductStockActor productStockActor;
+
+    @Mock
+    private ProductSalesRepository productSalesRepository;
+
     @InjectMocks
     private ProductService productService;
 
@@ -38,11 +71,15 @@ class ProductServiceTest {
             Quantity stockQuantity = Quantity.of(10);
             Long brandId = 1L;
 
+            when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
             //when
             productService.create(name, price, stockQuantity, brandId);
 
             //then
             verify(productRepository).save(any(Product.class));
+            verify(productSalesRepository).createStats(any());
+            verify(productEventPublisher).publish(any(ProductEvent.Created.class));
         }
     }
 
@@ -85,4 +122,324 @@ class ProductServiceTest {
             verify(productRepository).findById(nonExistentId);
         }
     }
+
+    @DisplayName("상품 수 조회")
+    @Nested
+    class Count {
+
+        @DisplayName("캐시된 상품 수가 있으면 DB 를 조회하지 않는다.")
+        @Test
+        void returnsCachedCount() {
+            //given
+            when(productCountCache.getTotalCount()).thenReturn(Optional.of(10L));
+
+            //when
+            long result = productService.count();
+
+            //then
+            assertThat(result).isEqualTo(10L);
+            verify(productRepository, never()).countAll();
+        }
+
+        @DisplayName("캐시가 비어 있으면 DB 에서 집계한 뒤 캐시에 저장한다.")
+        @Test
+        void loadsAndCachesCount_whenCacheMiss() {
+            //given
+            when(productCountCache.getTotalCount()).thenReturn(Optional.empty());
+            when(productRepository.countAll()).thenReturn(5L);
+
+            //when
+            long result = productService.count();
+
+            //then
+            assertThat(result).isEqualTo(5L);
+            verify(productCountCache).putTotalCount(5L);
+        }
+
+        @DisplayName("브랜드 상품 수는 브랜드별로 캐시하고, 캐시가 비어 있으면 DB 에서 센다.")
+        @Test
+        void loadsAndCachesBrandCount_whenCacheMiss() {
+            //given
+            Long brandId = 1L;
+            when(productCountCache.getBrandCount(brandId)).thenReturn(Optional.empty());
+            when(productRepository.countByBrandId(brandId)).thenReturn(3L);
+
+            //when
+            long result = productService.countByBrand(brandId);
+
+            //then
+            assertThat(result).isEqualTo(3L);
+            verify(productCountCache).putBrandCount(brandId, 3L);
+            verify(productRepository, never()).countAll();
+        }
+    }
+
+    @DisplayName("재고 차감")
+    @Nested
+    class DecreaseStock {
+
+        @DisplayName("조건부 UPDATE 로 차감되면 재고 변경 이벤트를 발행한다.")
+        @Test
+        void decreaseStock() {
+            //given
+            when(productRepository.decreaseStockIfAvailable(1L, 3)).thenReturn(1);
+
+            //when
+            productService.decreaseStock(1L, Quantity.of(3));
+
+            //then
+            verify(productRepository, never()).findByIdWithLock(any());
+            verify(productEventPublisher).publish(new ProductEvent.StockChanged(1L));
+        }
+
+        @DisplayName("차감된 행이 없고 상품이 존재하면 재고 부족 예외가 발생한다.")
+        @Test
+        void fail_whenStockInsufficient() {
+            //given
+            when(productRepository.decreaseStockIfAvailable(1L, 3)).thenReturn(0);
+            when(productRepository.existsById(1L)).thenReturn(true);
+
+            //when & then
+            assertThatThrownBy(() -> productService.decreaseStock(1L, Quantity.of(3)))
+                .isInstanceOf(CoreException.class)
+                .satisfies(exception -> {
+                    CoreException coreException = (CoreException) exception;
+                    assertThat(coreException.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+                    assertThat(coreException.getMessage()).isEqualTo("재고 수량이 부족합니다.");
+                });
+
+            verify(productEventPublisher, never()).publish(any(ProductEvent.StockChanged.class));
+        }
+
+        @DisplayName("차감된 행이 없고 상품이 없으면 NOT_FOUND 예외가 발생한다.")
+        @Test
+        void fail_whenProductNotExists() {
+            //given
+            when(productRepository.decreaseStockIfAvailable(999L, 3)).thenReturn(0);
+            when(productRepository.existsById(999L)).thenReturn(false);
+
+            //when & then
+            assertThatThrownBy(() -> productService.decreaseStock(999L, Quantity.of(3)))
+                .isInstanceOf(CoreException.class)
+                .satisfies(exception -> {
+                    CoreException coreException = (CoreException) exception;
+                    assertThat(coreException.getErrorType()).isEqualTo(ErrorType.NOT_FOUND);
+                });
+        }
+
+        @DisplayName("재고 분할 모드 상품은 product 행 대신 재고 버킷에서 차감한다.")
+        @Test
+        void decreaseStock_whenStockSharded() {
+            //given
+            when(productRepository.findStockShardedIds(any())).thenReturn(List.of(1L));
+
+            //when
+            productService.decreaseStock(1L, Quantity.of(3));
+
+            //then
+            verify(productStockShardService).decrease(1L, Quantity.of(3));
+            verify(productRepository, never()).decreaseStockIfAvailable(anyLong(), anyInt());
+            verify(productEventPublisher).publish(new ProductEvent.StockChanged(1L));
+        }
+    }
+
+    @DisplayName("Redis 예약 재고 차감")
+    @Nested
+    class ReserveStock {
+
+        @BeforeEach
+        void setUp() {
+            ReflectionTestUtils.setField(productService, "stockDecreaseMode", StockDecreaseMode.REDIS_RESERVATION);
+            TransactionSynchronizationManager.initSynchronization();
+        }
+
+        @AfterEach
+        void tearDown() {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        @DisplayName("예약 재고가 없으면 DB 재고로 초기화한 뒤 예약하고, DB 재고는 바로 차감하지 않는다.")
+        @Test
+        void initializesAndReserves_whenNotInitialized() {
+            //given
+            Product product = Product.create("상품1", Money.of(10000L), Quantity.of(10), 1L);
+            when(productStockReservation.reserve(1L, 3))
+                .thenReturn(ProductStockReservation.Result.NOT_INITIALIZED)
+                .thenReturn(ProductStockReservation.Result.RESERVED);
+            when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+
+            //when
+            productService.decreaseStock(1L, Quantity.of(3));
+
+            //then
+            verify(productStockReservation).initialize(1L, 10);
+            verify(productRepository, never()).decreaseStockIfAvailable(any(), anyInt());
+        }
+
+        @DisplayName("예약 재고가 부족하면 예외가 발생한다.")
+        @Test
+        void fail_whenReservedStockInsufficient() {
+            //given
+            when(productStockReservation.reserve(1L, 3)).thenReturn(ProductStockReservation.Result.INSUFFICIENT);
+
+            //when & then
+            assertThatThrownBy(() -> productService.decreaseStock(1L, Quantity.of(3)))
+                .isInstanceOf(CoreException.class)
+                .satisfies(exception -> {
+                    CoreException coreException = (CoreException) exception;
+                    assertThat(coreException.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+                    assertThat(coreException.getMessage()).isEqualTo("재고 수량이 부족합니다.");
+                });
+        }
+
+        @DisplayName("트랜잭션이 롤백되면 예약을 되돌린다.")
+        @Test
+        void releases_whenRolledBack() {
+            //given
+            when(productStockReservation.reserve(1L, 3)).thenReturn(ProductStockReservation.Result.RESERVED);
+            productService.decreaseStock(1L, Quantity.of(3));
+
+            //when
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            //then
+            verify(productStockReservation).release(1L, 3);
+        }
+    }
+
+    @DisplayName("그룹 커밋 재고 차감")
+    @Nested
+    class GroupCommit {
+
+        @BeforeEach
+        void setUp() {
+            ReflectionTestUtils.setField(productService, "stockDecreaseMode", StockDecreaseMode.GROUP_COMMIT);
+            ReflectionTestUtils.setField(productService, "stockResultTimeout", Duration.ofSeconds(1));
+            TransactionSynchronizationManager.initSynchronization();
+        }
+
+        @AfterEach
+        void tearDown() {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        @DisplayName("배치에서 차감되면 재고 변경 이벤트를 발행하고, 상품 행을 직접 갱신하지 않는다.")
+        @Test
+        void decreaseStock() {
+            //given
+            when(productStockBatcher.decrease(1L, 3))
+                .thenReturn(CompletableFuture.completedFuture(ProductStockBatcher.Result.DECREASED));
+
+            //when
+            productService.decreaseStock(1L, Quantity.of(3));
+
+            //then
+            verify(productRepository, never()).decreaseStockIfAvailable(anyLong(), anyInt());
+            verify(productEventPublisher).publish(new ProductEvent.StockChanged(1L));
+        }
+
+        @DisplayName("배치에서 재고가 부족하다고 판정되면 예외가 발생한다.")
+        @Test
+        void fail_whenStockInsufficient() {
+            //given
+            when(productStockBatcher.decrease(1L, 3))
+                .thenReturn(CompletableFuture.completedFuture(ProductStockBatcher.Result.INSUFFICIENT));
+
+            //when & then
+            assertThatThrownBy(() -> productService.decreaseStock(1L, Quantity.of(3)))
+                .isInstanceOf(CoreException.class)
+                .satisfies(exception -> {
+                    CoreException coreException = (CoreException) exception;
+                    assertThat(coreException.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+                    assertThat(coreException.getMessage()).isEqualTo("재고 수량이 부족합니다.");
+                });
+        }
+
+        @DisplayName("트랜잭션이 롤백되면 배치에서 차감된 수량만 되돌린다.")
+        @Test
+        void restores_whenRolledBack() {
+            //given
+            when(productStockBatcher.decrease(1L, 3))
+                .thenReturn(CompletableFuture.completedFuture(ProductStockBatcher.Result.DECREASED));
+            when(productStockBatcher.decrease(2L, 5))
+                .thenReturn(CompletableFuture.completedFuture(ProductStockBatcher.Result.INSUFFICIENT));
+
+            assertThatThrownBy(() -> productService.decreaseStocks(Map.of(1L, Quantity.of(3), 2L, Quantity.of(5))))
+                .isInstanceOf(CoreException.class);
+
+            //when
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            //then
+            verify(productStockBatcher).restore(1L, 3);
+            verify(productStockBatcher, never()).restore(2L, 5);
+        }
+    }
+
+    @DisplayName("인벤토리 액터 재고 차감")
+    @Nested
+    class InventoryActor {
+
+        @BeforeEach
+        void setUp() {
+            ReflectionTestUtils.setField(productService, "stockDecreaseMode", StockDecreaseMode.INVENTORY_ACTOR);
+            ReflectionTestUtils.setField(productService, "stockResultTimeout", Duration.ofSeconds(1));
+            TransactionSynchronizationManager.initSynchronization();
+        }
+
+        @AfterEach
+        void tearDown() {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        @DisplayName("액터에서 차감되면 DB 재고를 직접 갱신하지 않고, 재고 분할 여부도 조회하지 않는다.")
+        @Test
+        void decreaseStock() {
+            //given
+            when(productStockActor.decrease(1L, 3))
+                .thenReturn(CompletableFuture.completedFuture(ProductStockActor.Result.DECREASED));
+
+            //when
+            productService.decreaseStock(1L, Quantity.of(3));
+
+            //then
+            verify(productRepository, never()).decreaseStockIfAvailable(anyLong(), anyInt());
+            verify(productRepository, never()).findStockShardedIds(any());
+            verify(productEventPublisher).publish(new ProductEvent.StockChanged(1L));
+        }
+
+        @DisplayName("다른 노드가 소유한 파티션의 상품이면 CONFLICT 예외가 발생한다.")
+        @Test
+        void fail_whenNotOwner() {
+            //given
+            when(productStockActor.decrease(1L, 3))
+                .thenReturn(CompletableFuture.completedFuture(ProductStockActor.Result.NOT_OWNER));
+
+            //when & then
+            assertThatThrownBy(() -> productService.decreaseStock(1L, Quantity.of(3)))
+                .isInstanceOf(CoreException.class)
+                .satisfies(exception -> {
+                    CoreException coreException = (CoreException) exception;
+                    assertThat(coreException.getErrorType()).isEqualTo(ErrorType.CONFLICT);
+                });
+        }
+
+        @DisplayName("트랜잭션이 롤백되면 액터에서 차감한 수량을 되돌린다.")
+        @Test
+        void releases_whenRolledBack() {
+            //given
+            when(productStockActor.decrease(1L, 3))
+                .thenReturn(CompletableFuture.completedFuture(ProductStockActor.Result.DECREASED));
+            productService.decreaseStock(1L, Quantity.of(3));
+
+            //when
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            //then
+            verify(productStockActor).release(1L, 3);
+        }
+    }
 }
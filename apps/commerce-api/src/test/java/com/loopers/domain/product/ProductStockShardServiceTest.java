@@ -0,0 +1,169 @@
+package com.loopers.domain.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ProductStockShardServiceTest {
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductStockBucketRepository productStockBucketRepository;
+
+    @InjectMocks
+    private ProductStockShardService productStockShardService;
+
+    @DisplayName("재고 분할 전환")
+    @Nested
+    class Enable {
+
+        @DisplayName("현재 재고를 버킷 수만큼 고르게 나눈다.")
+        @Test
+        void enable() {
+            //given
+            Product product = Product.create("상품1", Money.of(BigDecimal.valueOf(10000)), Quantity.of(10), 1L);
+            when(productRepository.findByIdWithLock(1L)).thenReturn(Optional.of(product));
+
+            //when
+            productStockShardService.enable(1L, 4);
+
+            //then
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<ProductStockBucket>> captor = ArgumentCaptor.forClass(List.class);
+            verify(productStockBucketRepository).saveAll(captor.capture());
+
+            assertThat(captor.getValue())
+                .extracting(ProductStockBucket::getQuantity)
+                .containsExactly(3, 3, 2, 2);
+            assertThat(product.isStockSharded()).isTrue();
+        }
+
+        @DisplayName("버킷 수가 2 미만이면 예외가 발생한다.")
+        @Test
+        void fail_whenBucketCountTooSmall() {
+            //when & then
+            assertThatThrownBy(() -> productStockShardService.enable(1L, 1))
+                .isInstanceOf(CoreException.class)
+                .satisfies(exception -> {
+                    CoreException coreException = (CoreException) exception;
+                    assertThat(coreException.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+                });
+
+            verify(productStockBucketRepository, never()).saveAll(any());
+        }
+    }
+
+    @DisplayName("버킷 재고 차감")
+    @Nested
+    class Decrease {
+
+        @DisplayName("수량이 충분한 버킷이 있으면 그 버킷 하나만 조건부로 차감한다.")
+        @Test
+        void decrease() {
+            //given
+            when(productStockBucketRepository.findBucketNosWithQuantity(1L, 3)).thenReturn(List.of(2));
+            when(productStockBucketRepository.decreaseIfAvailable(1L, 2, 3)).thenReturn(1);
+
+            //when
+            productStockShardService.decrease(1L, Quantity.of(3));
+
+            //then
+            verify(productStockBucketRepository, never()).findAllByProductIdWithLock(anyLong());
+        }
+
+        @DisplayName("한 버킷으로 부족하면 전체 버킷을 잠그고 앞 번호부터 나누어 차감한다.")
+        @Test
+        void decrease_acrossBuckets() {
+            //given
+            List<ProductStockBucket> buckets = List.of(
+                ProductStockBucket.create(1L, 0, 2),
+                ProductStockBucket.create(1L, 1, 2),
+                ProductStockBucket.create(1L, 2, 2)
+            );
+            when(productStockBucketRepository.findBucketNosWithQuantity(1L, 5)).thenReturn(List.of());
+            when(productStockBucketRepository.findAllByProductIdWithLock(1L)).thenReturn(buckets);
+
+            //when
+            productStockShardService.decrease(1L, Quantity.of(5));
+
+            //then
+            assertThat(buckets)
+                .extracting(ProductStockBucket::getQuantity)
+                .containsExactly(0, 0, 1);
+            verify(productStockBucketRepository, never()).decreaseIfAvailable(anyLong(), anyInt(), anyInt());
+        }
+
+        @DisplayName("버킷 합계가 부족하면 재고 부족 예외가 발생한다.")
+        @Test
+        void fail_whenTotalInsufficient() {
+            //given
+            List<ProductStockBucket> buckets = List.of(
+                ProductStockBucket.create(1L, 0, 2),
+                ProductStockBucket.create(1L, 1, 2)
+            );
+            when(productStockBucketRepository.findBucketNosWithQuantity(1L, 5)).thenReturn(List.of());
+            when(productStockBucketRepository.findAllByProductIdWithLock(1L)).thenReturn(buckets);
+
+            //when & then
+            assertThatThrownBy(() -> productStockShardService.decrease(1L, Quantity.of(5)))
+                .isInstanceOf(CoreException.class)
+                .satisfies(exception -> {
+                    CoreException coreException = (CoreException) exception;
+                    assertThat(coreException.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+                    assertThat(coreException.getMessage()).isEqualTo("재고 수량이 부족합니다.");
+                });
+
+            assertThat(buckets)
+                .extracting(ProductStockBucket::getQuantity)
+                .containsExactly(2, 2);
+        }
+    }
+
+    @DisplayName("버킷 재분배")
+    @Nested
+    class Rebalance {
+
+        @DisplayName("버킷 수량을 고르게 맞추고 합계를 상품 재고에 기록한다.")
+        @Test
+        void rebalance() {
+            //given
+            List<ProductStockBucket> buckets = List.of(
+                ProductStockBucket.create(1L, 0, 0),
+                ProductStockBucket.create(1L, 1, 1),
+                ProductStockBucket.create(1L, 2, 8)
+            );
+            when(productStockBucketRepository.findAllByProductIdWithLock(1L)).thenReturn(buckets);
+
+            //when
+            productStockShardService.rebalance(1L);
+
+            //then
+            assertThat(buckets)
+                .extracting(ProductStockBucket::getQuantity)
+                .containsExactly(3, 3, 3);
+            verify(productRepository).updateStock(eq(1L), eq(9));
+        }
+    }
+}
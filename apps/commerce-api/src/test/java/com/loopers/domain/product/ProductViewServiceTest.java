@@ -0,0 +1,150 @@
+package com.loopers.domain.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.loopers.domain.ranking.RankingService;
+import com.loopers.domain.ranking.RankingSignal;
+import com.loopers.infrastructure.product.ProductViewRingBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ProductViewServiceTest {
+
+    @Mock
+    private ProductViewCountRepository productViewCountRepository;
+
+    @Mock
+    private RankingService rankingService;
+
+    private ProductViewRingBuffer productViewBuffer;
+
+    private ProductViewService productViewService;
+
+    @BeforeEach
+    void setUp() {
+        productViewBuffer = new ProductViewRingBuffer(4);
+        productViewService = new ProductViewService(productViewBuffer, productViewCountRepository, rankingService);
+    }
+
+    @DisplayName("조회 이벤트 반영")
+    @Nested
+    class Flush {
+
+        @DisplayName("버퍼의 조회 이벤트를 상품별로 합산해 조회 수와 랭킹에 한 번씩 반영한다.")
+        @Test
+        void flush_aggregatesByProduct() {
+            //given
+            productViewService.record(1L);
+            productViewService.record(2L);
+            productViewService.record(1L);
+
+            //when
+            int flushed = productViewService.flush(100);
+
+            //then
+            assertThat(flushed).isEqualTo(3);
+            verify(productViewCountRepository).increaseAll(eq(Map.of(1L, 2L, 2L, 1L)), any());
+            verify(rankingService).record(eq(RankingSignal.VIEW), eq(Map.of(1L, 2L, 2L, 1L)), any());
+        }
+
+        @DisplayName("버퍼가 비어 있으면 저장소를 호출하지 않는다.")
+        @Test
+        void flush_whenEmpty() {
+            //when
+            int flushed = productViewService.flush(100);
+
+            //then
+            assertThat(flushed).isZero();
+            verify(productViewCountRepository, never()).increaseAll(anyMap(), any());
+        }
+
+        @DisplayName("batchSize 만큼만 꺼내고 나머지는 다음 반영에 남긴다.")
+        @Test
+        void flush_respectsBatchSize() {
+            //given
+            productViewService.record(1L);
+            productViewService.record(2L);
+            productViewService.record(3L);
+
+            //when
+            int first = productViewService.flush(2);
+            int second = productViewService.flush(2);
+
+            //then
+            assertThat(first).isEqualTo(2);
+            assertThat(second).isEqualTo(1);
+        }
+    }
+
+    @DisplayName("버퍼 용량 초과")
+    @Nested
+    class Overflow {
+
+        @DisplayName("버퍼가 가득 차면 기다리지 않고 버리며 버린 수를 센다.")
+        @Test
+        void dropsWhenFull() {
+            //given
+            for (int i = 0; i < 6; i++) {
+                productViewService.record(1L);
+            }
+
+            //when
+            int flushed = productViewService.flush(100);
+
+            //then
+            assertThat(flushed).isEqualTo(4);
+            assertThat(productViewService.takeDroppedCount()).isEqualTo(2);
+            assertThat(productViewService.takeDroppedCount()).isZero();
+        }
+
+        @DisplayName("여러 스레드가 동시에 넣어도 넣은 이벤트와 버린 이벤트의 합은 요청 수와 같다.")
+        @Test
+        void concurrentOffer() throws InterruptedException {
+            //given
+            ProductViewRingBuffer buffer = new ProductViewRingBuffer(1024);
+            int threadCount = 8;
+            int perThread = 500;
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch latch = new CountDownLatch(threadCount);
+
+            //when
+            for (int t = 0; t < threadCount; t++) {
+                executorService.submit(() -> {
+                    try {
+                        for (int i = 0; i < perThread; i++) {
+                            buffer.offer(1L);
+                        }
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await();
+            executorService.shutdown();
+
+            Map<Long, Long> counts = new HashMap<>();
+            int drained = buffer.drainTo(counts, Integer.MAX_VALUE);
+
+            //then
+            assertThat(drained).isEqualTo(1024);
+            assertThat(counts.get(1L)).isEqualTo(1024L);
+            assertThat(drained + buffer.takeDroppedCount()).isEqualTo((long) threadCount * perThread);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.loopers.domain.ranking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class RankingServiceTest {
+
+    @Mock
+    private RankingRepository rankingRepository;
+
+    @InjectMocks
+    private RankingService rankingService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(rankingService, "viewWeight", 0.1);
+        ReflectionTestUtils.setField(rankingService, "likeWeight", 0.2);
+        ReflectionTestUtils.setField(rankingService, "orderWeight", 0.7);
+        ReflectionTestUtils.setField(rankingService, "carryOverWeight", 0.1);
+    }
+
+    @DisplayName("신호 기록")
+    @Nested
+    class Record {
+
+        @DisplayName("신호 횟수에 신호별 가중치를 곱해 점수로 누적한다.")
+        @Test
+        void record_appliesWeight() {
+            //given
+            LocalDateTime at = LocalDateTime.of(2025, 1, 1, 10, 30);
+
+            //when
+            rankingService.record(RankingSignal.ORDER, Map.of(1L, 2L, 2L, 1L), at);
+
+            //then
+            verify(rankingRepository).incrementScores(Map.of(1L, 1.4, 2L, 0.7), at);
+        }
+
+        @DisplayName("좋아요 취소는 음수 점수로 누적한다.")
+        @Test
+        void record_negative() {
+            //given
+            LocalDateTime at = LocalDateTime.of(2025, 1, 1, 10, 30);
+
+            //when
+            rankingService.record(RankingSignal.LIKE, Map.of(1L, -1L), at);
+
+            //then
+            verify(rankingRepository).incrementScores(Map.of(1L, -0.2), at);
+        }
+
+        @DisplayName("반영할 신호가 없으면 저장소를 호출하지 않는다.")
+        @Test
+        void record_empty() {
+            //when
+            rankingService.record(RankingSignal.VIEW, Map.of(1L, 0L), LocalDateTime.now());
+
+            //then
+            verify(rankingRepository, never()).incrementScores(anyMap(), any());
+        }
+    }
+
+    @DisplayName("점수 이월")
+    @Nested
+    class CarryOver {
+
+        @DisplayName("현재 구간의 점수를 이월 비율만큼 다음 구간으로 옮긴다.")
+        @Test
+        void carryOverToNext() {
+            //given
+            LocalDateTime now = LocalDateTime.of(2025, 1, 1, 23, 50);
+
+            //when
+            rankingService.carryOverToNext(RankingWindow.DAILY, now);
+
+            //then
+            verify(rankingRepository).carryOver(RankingWindow.DAILY, now, LocalDateTime.of(2025, 1, 2, 0, 0), 0.1);
+        }
+
+        @DisplayName("시간별 구간의 다음 구간은 다음 정시이다.")
+        @Test
+        void hourlyNext() {
+            //when
+            LocalDateTime next = RankingWindow.HOURLY.nextOf(LocalDateTime.of(2025, 1, 1, 23, 50));
+
+            //then
+            assertThat(next).isEqualTo(LocalDateTime.of(2025, 1, 2, 0, 0));
+        }
+    }
+}
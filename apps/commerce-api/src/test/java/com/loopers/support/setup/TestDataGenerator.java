@@ -304,6 +304,8 @@ public class TestDataGenerator {
                     name VARCHAR(255) NOT NULL,
                     price DECIMAL(19,2) NOT NULL,
                     stock_quantity INT NOT NULL,
+                    like_count BIGINT NOT NULL DEFAULT 0,
+                    stock_sharded BIT NOT NULL DEFAULT 0,
                     created_at DATETIME NOT NULL
                 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4
                 """);
@@ -419,6 +421,17 @@ public class TestDataGenerator {
         System.out.println("4️⃣ 불균등 분포 좋아요 데이터 생성 중... (목표: " + String.format("%,d", LIKE_COUNT) + "개)");
         generateSkewedLikes(conn);
 
+        // 좋아요 수 비정규화 컬럼 동기화
+        System.out.println("5️⃣ 상품 좋아요 수(like_count) 동기화 중...");
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("""
+                UPDATE product p
+                JOIN (SELECT product_id, COUNT(*) AS cnt FROM likes GROUP BY product_id) c
+                  ON c.product_id = p.id
+                SET p.like_count = c.cnt
+                """);
+        }
+
         System.out.println("✅ 모든 불균등 분포 데이터 생성 완료");
         log.info("✅ 모든 불균등 분포 데이터 생성 완료");
     }
@@ -9,16 +9,19 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.RedisStaticMasterReplicaConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
 @EnableConfigurationProperties(RedisProperties.class)
 public class RedisConfig{
     private static final String CONNECTION_MASTER = "redisConnectionMaster";
+    private static final String CONNECTION_PUBSUB = "redisConnectionPubSub";
     public static final String REDIS_TEMPLATE_MASTER = "redisTemplateMaster";
 
     private final RedisProperties redisProperties;
@@ -51,6 +54,27 @@ public class RedisConfig{
         );
     }
 
+    /**
+     * Master/Replica 구성의 커넥션은 Pub/Sub 구독을 지원하지 않으므로, 구독 전용으로 master 단독 커넥션을 사용한다.
+     */
+    @Qualifier(CONNECTION_PUBSUB)
+    @Bean
+    public LettuceConnectionFactory pubSubRedisConnectionFactory() {
+        RedisNodeInfo master = redisProperties.master();
+        RedisStandaloneConfiguration standaloneConfig = new RedisStandaloneConfiguration(master.host(), master.port());
+        standaloneConfig.setDatabase(redisProperties.database());
+        return new LettuceConnectionFactory(standaloneConfig);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+        @Qualifier(CONNECTION_PUBSUB) LettuceConnectionFactory lettuceConnectionFactory
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(lettuceConnectionFactory);
+        return container;
+    }
+
     @Primary
     @Bean
     public RedisTemplate<String, String> defaultRedisTemplate(LettuceConnectionFactory lettuceConnectionFactory) {
@@ -0,0 +1,122 @@
+package com.loopers.redis.inventory;
+
+import com.loopers.config.redis.RedisConfig;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 에 보관한 재고 수량을 Lua 스크립트로 원자적으로 확인/차감하는 재고 게이트.
+ * 재고는 inventory:{namespace}:{itemId} 에, 값이 바뀐 항목 ID 는 inventory:{namespace}:dirty 집합에 기록하여
+ * 호출 측이 원본 저장소로 비동기 반영할 수 있게 한다.
+ * 모든 쓰기는 master 에서 수행한다.
+ */
+@Component
+public class RedisInventoryGate {
+
+    public static final long NOT_INITIALIZED = -1L;
+    public static final long INSUFFICIENT = -2L;
+
+    private static final RedisScript<Long> RESERVE = new DefaultRedisScript<>(
+        """
+        local stock = redis.call('GET', KEYS[1])
+        if not stock then
+            return -1
+        end
+        if tonumber(stock) < tonumber(ARGV[1]) then
+            return -2
+        end
+        local remaining = redis.call('DECRBY', KEYS[1], ARGV[1])
+        redis.call('SADD', KEYS[2], ARGV[2])
+        return remaining
+        """,
+        Long.class
+    );
+
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+        """
+        if redis.call('EXISTS', KEYS[1]) == 0 then
+            return -1
+        end
+        local remaining = redis.call('INCRBY', KEYS[1], ARGV[1])
+        redis.call('SADD', KEYS[2], ARGV[2])
+        return remaining
+        """,
+        Long.class
+    );
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+
+    public RedisInventoryGate(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate
+    ) {
+        this.masterRedisTemplate = masterRedisTemplate;
+    }
+
+    /**
+     * 재고가 없을 때만 초기값을 설정한다. 이미 초기화되어 있으면 false 를 반환한다.
+     */
+    public boolean initialize(String namespace, String itemId, long stock) {
+        return Boolean.TRUE.equals(
+            masterRedisTemplate.opsForValue().setIfAbsent(stockKey(namespace, itemId), String.valueOf(stock))
+        );
+    }
+
+    /**
+     * 재고가 quantity 이상이면 차감하고 남은 수량을 반환한다.
+     * 초기화되지 않았으면 {@link #NOT_INITIALIZED}, 부족하면 {@link #INSUFFICIENT} 를 반환한다.
+     */
+    public long reserve(String namespace, String itemId, long quantity) {
+        return masterRedisTemplate.execute(
+            RESERVE,
+            List.of(stockKey(namespace, itemId), dirtyKey(namespace)),
+            String.valueOf(quantity),
+            itemId
+        );
+    }
+
+    /**
+     * 예약했던 수량을 되돌린다. 그 사이 재고가 제거되었으면 {@link #NOT_INITIALIZED} 를 반환한다.
+     */
+    public long release(String namespace, String itemId, long quantity) {
+        return masterRedisTemplate.execute(
+            RELEASE,
+            List.of(stockKey(namespace, itemId), dirtyKey(namespace)),
+            String.valueOf(quantity),
+            itemId
+        );
+    }
+
+    public Optional<Long> get(String namespace, String itemId) {
+        String stock = masterRedisTemplate.opsForValue().get(stockKey(namespace, itemId));
+        return Optional.ofNullable(stock).map(Long::valueOf);
+    }
+
+    /**
+     * 값이 바뀐 항목 ID 를 최대 count 개 꺼낸다. 꺼낸 항목은 집합에서 제거된다.
+     */
+    public Set<String> popDirty(String namespace, long count) {
+        List<String> popped = masterRedisTemplate.opsForSet().pop(dirtyKey(namespace), count);
+        return popped == null ? Set.of() : Set.copyOf(popped);
+    }
+
+    /**
+     * 원본 저장소 반영에 실패한 항목을 다시 반영 대상으로 되돌린다.
+     */
+    public void markDirty(String namespace, String itemId) {
+        masterRedisTemplate.opsForSet().add(dirtyKey(namespace), itemId);
+    }
+
+    private String stockKey(String namespace, String itemId) {
+        return "inventory:" + namespace + ":" + itemId;
+    }
+
+    private String dirtyKey(String namespace) {
+        return "inventory:" + namespace + ":dirty";
+    }
+}
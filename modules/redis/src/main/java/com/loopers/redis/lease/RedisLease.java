@@ -0,0 +1,71 @@
+package com.loopers.redis.lease;
+
+import com.loopers.config.redis.RedisConfig;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료 시간이 있는 소유권(lease)을 Redis 키 하나로 관리한다.
+ * 키 값에 소유자 ID 를 기록하고, 갱신과 반납은 소유자가 일치할 때만 수행한다.
+ * 모든 연산은 master 에서 수행한다.
+ */
+@Component
+public class RedisLease {
+
+    private static final RedisScript<Long> RENEW = new DefaultRedisScript<>(
+        """
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+            return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+        end
+        return 0
+        """,
+        Long.class
+    );
+
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+        """
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+            return redis.call('DEL', KEYS[1])
+        end
+        return 0
+        """,
+        Long.class
+    );
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+
+    public RedisLease(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate
+    ) {
+        this.masterRedisTemplate = masterRedisTemplate;
+    }
+
+    /**
+     * 소유자가 없을 때만 owner 로 lease 를 잡는다.
+     */
+    public boolean tryAcquire(String key, String owner, Duration ttl) {
+        return Boolean.TRUE.equals(masterRedisTemplate.opsForValue().setIfAbsent(key, owner, ttl));
+    }
+
+    /**
+     * owner 가 아직 소유자이면 만료 시간을 ttl 로 연장한다. 이미 잃었으면 false 를 반환한다.
+     */
+    public boolean renew(String key, String owner, Duration ttl) {
+        Long renewed = masterRedisTemplate.execute(RENEW, List.of(key), owner, String.valueOf(ttl.toMillis()));
+        return renewed != null && renewed == 1L;
+    }
+
+    public void release(String key, String owner) {
+        masterRedisTemplate.execute(RELEASE, List.of(key), owner);
+    }
+
+    public Optional<String> getOwner(String key) {
+        return Optional.ofNullable(masterRedisTemplate.opsForValue().get(key));
+    }
+}